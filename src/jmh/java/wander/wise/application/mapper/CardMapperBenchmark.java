@@ -0,0 +1,68 @@
+package wander.wise.application.mapper;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.mapper.impl.CardMapperImpl;
+import wander.wise.application.mapper.impl.CommentMapperImpl;
+import wander.wise.application.model.Card;
+import wander.wise.application.model.Comment;
+import wander.wise.application.model.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardMapperBenchmark {
+    @Param({"0", "50", "500"})
+    private int commentsCount;
+    private CardMapper cardMapper;
+    private Card card;
+
+    @Setup
+    public void setUp() {
+        cardMapper = new CardMapperImpl(new CommentMapperImpl());
+        card = new Card(1L);
+        card.setFullName("Lake Bled|Bled|Upper Carniola|Slovenia|Europe");
+        card.setTripTypes("Active|Nature|Romantic");
+        card.setClimate("Temperate");
+        card.setSpecialRequirements("Pet-friendly|Accessible");
+        card.setDescription("Alpine lake with an island church and a medieval castle.");
+        card.setWhyThisPlace("Rowing to the island|Views from the castle|Cream cake");
+        card.setImageLinks("https://example.com/1.jpg|https://example.com/2.jpg");
+        card.setMapLink("https://www.google.com/maps/place/46.3636,14.0938");
+        Set<Comment> comments = new HashSet<>();
+        for (int i = 0; i < commentsCount; i++) {
+            User user = new User((long) i);
+            user.setPseudonym("BraveRedFox" + i);
+            Comment comment = new Comment();
+            comment.setId((long) i);
+            comment.setUser(user);
+            comment.setCard(card);
+            comment.setTimeStamp(LocalDateTime.now());
+            comment.setText("Comment number " + i);
+            comments.add(comment);
+        }
+        card.setComments(comments);
+    }
+
+    @Benchmark
+    public CardDto toDto() {
+        return cardMapper.toDto(card);
+    }
+}
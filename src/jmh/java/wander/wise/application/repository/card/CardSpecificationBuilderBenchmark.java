@@ -0,0 +1,120 @@
+package wander.wise.application.repository.card;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.model.Card;
+import wander.wise.application.model.Collection;
+import wander.wise.application.model.Comment;
+import wander.wise.application.model.InvalidJwt;
+import wander.wise.application.model.Report;
+import wander.wise.application.model.Role;
+import wander.wise.application.model.SocialLink;
+import wander.wise.application.model.User;
+import wander.wise.application.repository.card.spec.AuthorSpecificationProvider;
+import wander.wise.application.repository.card.spec.ClimateSpecificationProvider;
+import wander.wise.application.repository.card.spec.DistanceSpecificationProvider;
+import wander.wise.application.repository.card.spec.SpecialRequirementsSpecificationProvider;
+import wander.wise.application.repository.card.spec.TripTypesSpecificationProvider;
+
+/**
+ * Measures building of the specification tree and compiling it into
+ * a Criteria predicate. Hibernate is started with the MySQL dialect and
+ * without JDBC metadata access, so no database is needed
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardSpecificationBuilderBenchmark {
+    private final CardSearchParameters searchParameters = new CardSearchParameters(
+            "Kyiv|Kyiv Oblast|Ukraine|Europe",
+            new String[]{"Active", "Nature", "Cultural"},
+            new String[]{"Temperate", "Cold"},
+            new String[]{"Pet-friendly", "Accessible"},
+            new String[]{"Europe"},
+            new String[]{"AI"});
+    private CardSpecificationBuilder cardSpecificationBuilder;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private Specification<Card> specification;
+
+    @Setup
+    public void setUp() {
+        cardSpecificationBuilder = new CardSpecificationBuilder(
+                new CardSpecificationProviderManager(List.of(
+                        new TripTypesSpecificationProvider(),
+                        new ClimateSpecificationProvider(),
+                        new SpecialRequirementsSpecificationProvider(),
+                        new DistanceSpecificationProvider(),
+                        new AuthorSpecificationProvider())));
+        specification = cardSpecificationBuilder.build(searchParameters);
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.MySQLDialect")
+                .applySetting("hibernate.temp.use_jdbc_metadata_defaults", false)
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .build())
+                .addAnnotatedClass(Card.class)
+                .addAnnotatedClass(Collection.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(InvalidJwt.class)
+                .addAnnotatedClass(Report.class)
+                .addAnnotatedClass(Role.class)
+                .addAnnotatedClass(SocialLink.class)
+                .addAnnotatedClass(User.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<Card> build() {
+        return cardSpecificationBuilder.build(searchParameters);
+    }
+
+    /**
+     * Includes creation of the query and its root, as every search does
+     */
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaQuery<Card> query = criteriaBuilder.createQuery(Card.class);
+        Root<Card> root = query.from(Card.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate buildAndToPredicate() {
+        CriteriaQuery<Card> query = criteriaBuilder.createQuery(Card.class);
+        Root<Card> root = query.from(Card.class);
+        return cardSpecificationBuilder.build(searchParameters)
+                .toPredicate(root, query, criteriaBuilder);
+    }
+}
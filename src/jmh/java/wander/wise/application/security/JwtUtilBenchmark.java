@@ -0,0 +1,63 @@
+package wander.wise.application.security;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wander.wise.application.service.invalid.jwt.InvalidJwtService;
+
+/**
+ * Invalidated tokens are looked up in the database, here the lookup
+ * is replaced with a no-op to measure signing and parsing only
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final String EMAIL = "benchmark@example.com";
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil(SECRET);
+        Field invalidJwtService = JwtUtil.class.getDeclaredField("invalidJwtService");
+        invalidJwtService.setAccessible(true);
+        invalidJwtService.set(jwtUtil, new InvalidJwtService() {
+            @Override
+            public void invalidateJwt(String jwt) {
+            }
+
+            @Override
+            public void checkIfJwtInvalidated(String jwt) {
+            }
+
+            @Override
+            public void performTokenCleanup() {
+            }
+        });
+        token = jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL);
+    }
+
+    @Benchmark
+    public boolean isValidToken() {
+        return jwtUtil.isValidToken(token);
+    }
+}
@@ -0,0 +1,59 @@
+package wander.wise.application.service.api.ai;
+
+import static wander.wise.application.constants.GlobalConstants.JSON_MAPPER;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wander.wise.application.dto.ai.AiResponseDto;
+import wander.wise.application.dto.ai.LocationListDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiResponseParsingBenchmark {
+    private static final int LOCATIONS_COUNT = 20;
+    private static final String LOCATION_DETAILS = """
+            {
+              "fullName": "Lake Bled|Bled|Upper Carniola|Slovenia|Europe",
+              "tripTypes": "Active|Nature|Romantic",
+              "climate": "Temperate",
+              "specialRequirements": "Pet-friendly|Accessible",
+              "description": "Alpine lake with an island church and a medieval castle.",
+              "whyThisPlace": "Rowing to the island|Views from the castle|Cream cake"
+            }""";
+    private String locationList;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("{\"locationNames\": [");
+        for (int i = 0; i < LOCATIONS_COUNT; i++) {
+            builder.append(i == 0 ? "" : ", ")
+                    .append("\"Location ").append(i)
+                    .append("|Locality|Region|Country|Continent\"");
+        }
+        locationList = builder.append("]}").toString();
+    }
+
+    @Benchmark
+    public LocationListDto parseLocationList() throws JsonProcessingException {
+        return JSON_MAPPER.readValue(locationList, LocationListDto.class);
+    }
+
+    @Benchmark
+    public AiResponseDto parseLocationDetails() throws JsonProcessingException {
+        return JSON_MAPPER.readValue(LOCATION_DETAILS, AiResponseDto.class);
+    }
+}
@@ -0,0 +1,51 @@
+package wander.wise.application.service.api.images;
+
+import com.google.gson.JsonParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bing returns up to 35 results with a few kilobytes of metadata each,
+ * the whole body is parsed although only five links are used
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageSearchParsingBenchmark {
+    private static final int RESULTS_COUNT = 35;
+    private String response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder("{\"_type\": \"Images\", \"value\": [");
+        for (int i = 0; i < RESULTS_COUNT; i++) {
+            builder.append(i == 0 ? "" : ", ")
+                    .append("{\"name\": \"Image ").append(i).append("\", ")
+                    .append("\"thumbnailUrl\": \"https://tse.mm.bing.net/th?id=").append(i)
+                    .append("\", \"contentUrl\": \"https://example.com/images/").append(i)
+                    .append(".jpg\", \"hostPageUrl\": \"https://example.com/pages/").append(i)
+                    .append("\", \"width\": 1920, \"height\": 1080, ")
+                    .append("\"encodingFormat\": \"jpeg\", \"accentColor\": \"3C5A7E\", ")
+                    .append("\"thumbnail\": {\"width\": 474, \"height\": 266}}");
+        }
+        response = builder.append("]}").toString();
+    }
+
+    @Benchmark
+    public String parseImageLinks() {
+        return ImageSearchApiServiceImpl.getImageLinksFromJsonBody(
+                JsonParser.parseString(response).getAsJsonObject());
+    }
+}
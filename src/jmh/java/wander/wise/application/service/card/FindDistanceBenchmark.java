@@ -0,0 +1,50 @@
+package wander.wise.application.service.card;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wander.wise.application.dto.maps.LocationDto;
+import wander.wise.application.model.Card;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindDistanceBenchmark {
+    private static final int CARDS_COUNT = 100_000;
+    private final LocationDto startLocation = new LocationDto(
+            "https://www.google.com/maps/place/50.4501,30.5234", 50.4501, 30.5234);
+    private Card[] cards;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        cards = new Card[CARDS_COUNT];
+        for (int i = 0; i < CARDS_COUNT; i++) {
+            Card card = new Card((long) i);
+            card.setLatitude(random.nextDouble(-90, 90));
+            card.setLongitude(random.nextDouble(-180, 180));
+            cards[i] = card;
+        }
+    }
+
+    @Benchmark
+    public long findDistanceToEveryCard() {
+        long distancesSum = 0;
+        for (Card card : cards) {
+            distancesSum += CardServiceImpl.findDistance(card, startLocation);
+        }
+        return distancesSum;
+    }
+}
@@ -0,0 +1,190 @@
+package wander.wise.application.service.user.pseudonym;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wander.wise.application.repository.user.pseudonym.PseudonymRepository;
+
+/**
+ * Compares the pseudonym generator, that registration used before, with
+ * PseudonymGenerator. Both read a repository, that holds its data in memory
+ * and waits a fixed round trip on every query, so the result shows what the
+ * generators cost a registration against a database. Every generated
+ * pseudonym is taken, as registration saves it. Both results are written to
+ * target/jmh-result.json by the benchmarks profile. The old generator makes
+ * at least four queries per pseudonym, so with the default round trip it can't
+ * exceed 500 pseudonyms per second, the new one queries only when the bloom
+ * filter answers "maybe"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PseudonymGeneratorBenchmark {
+    private static final int WORDS_COUNT = 100;
+    private static final int MAX_NUMBER = 9999;
+    private static final int EXPECTED_COUNT = 1_000_000;
+
+    @Param("500")
+    private int roundTripMicros;
+    @Param("100000")
+    private int takenCount;
+    private FixedLatencyPseudonymRepository repository;
+    private PreviousPseudonymGenerator previousGenerator;
+    private PseudonymGenerator generator;
+
+    @Setup
+    public void setUp() {
+        repository = new FixedLatencyPseudonymRepository(
+                TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        repository.takeRandom(takenCount);
+        previousGenerator = new PreviousPseudonymGenerator(repository);
+        generator = new PseudonymGenerator(repository, EXPECTED_COUNT);
+        generator.initialize();
+    }
+
+    @Benchmark
+    public String generateWithPreviousGenerator() {
+        return repository.take(previousGenerator.generate());
+    }
+
+    @Benchmark
+    public String generateWithPseudonymGenerator() {
+        return repository.take(generator.generate());
+    }
+
+    /**
+     * The generator of registration before PseudonymGenerator: three queries
+     * for random words and one for uniqueness, repeated on a collision
+     */
+    private static class PreviousPseudonymGenerator {
+        private final Random random = new Random();
+        private final FixedLatencyPseudonymRepository repository;
+
+        PreviousPseudonymGenerator(FixedLatencyPseudonymRepository repository) {
+            this.repository = repository;
+        }
+
+        String generate() {
+            String pseudonym = repository.getAdjective()
+                    + repository.getColor()
+                    + repository.getAnimal()
+                    + random.nextInt(1, MAX_NUMBER + 1);
+            if (repository.existsByPseudonym(pseudonym)) {
+                return generate();
+            }
+            return pseudonym;
+        }
+    }
+
+    /**
+     * Answers the queries of both generators from memory after a fixed
+     * round trip
+     */
+    private static class FixedLatencyPseudonymRepository implements PseudonymRepository {
+        private final List<String> adjectives = words("Adjective");
+        private final List<String> colors = words("Color");
+        private final List<String> animals = words("Animal");
+        private final Set<String> takenPseudonyms = ConcurrentHashMap.newKeySet();
+        private final long roundTripNanos;
+
+        FixedLatencyPseudonymRepository(long roundTripNanos) {
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        @Override
+        public List<String> findAllAdjectives() {
+            return roundTrip(adjectives);
+        }
+
+        @Override
+        public List<String> findAllColors() {
+            return roundTrip(colors);
+        }
+
+        @Override
+        public List<String> findAllAnimals() {
+            return roundTrip(animals);
+        }
+
+        @Override
+        public List<String> findPseudonymsIncludingDeletedAfter(String after, int limit) {
+            return roundTrip(takenPseudonyms.stream()
+                    .filter(pseudonym -> pseudonym.compareTo(after) > 0)
+                    .sorted()
+                    .limit(limit)
+                    .toList());
+        }
+
+        @Override
+        public long countUsersIncludingDeleted() {
+            return roundTrip((long) takenPseudonyms.size());
+        }
+
+        @Override
+        public long countByPseudonymIncludingDeleted(String pseudonym) {
+            return roundTrip(takenPseudonyms.contains(pseudonym) ? 1L : 0L);
+        }
+
+        String getAdjective() {
+            return roundTrip(getRandom(adjectives));
+        }
+
+        String getColor() {
+            return roundTrip(getRandom(colors));
+        }
+
+        String getAnimal() {
+            return roundTrip(getRandom(animals));
+        }
+
+        boolean existsByPseudonym(String pseudonym) {
+            return roundTrip(takenPseudonyms.contains(pseudonym));
+        }
+
+        String take(String pseudonym) {
+            takenPseudonyms.add(pseudonym);
+            return pseudonym;
+        }
+
+        void takeRandom(int count) {
+            while (takenPseudonyms.size() < count) {
+                take(getRandom(adjectives) + getRandom(colors) + getRandom(animals)
+                        + ThreadLocalRandom.current().nextInt(1, MAX_NUMBER + 1));
+            }
+        }
+
+        private <T> T roundTrip(T result) {
+            LockSupport.parkNanos(roundTripNanos);
+            return result;
+        }
+
+        private static String getRandom(List<String> words) {
+            return words.get(ThreadLocalRandom.current().nextInt(words.size()));
+        }
+
+        private static List<String> words(String prefix) {
+            return IntStream.range(0, WORDS_COUNT)
+                    .mapToObj(i -> prefix + i)
+                    .toList();
+        }
+    }
+}
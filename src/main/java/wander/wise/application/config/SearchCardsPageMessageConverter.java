@@ -0,0 +1,74 @@
+package wander.wise.application.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.card.CardJsonFragment;
+import wander.wise.application.dto.card.SearchCardsPage;
+
+/**
+ * Writes search pages by copying pre-serialized card bytes to the response
+ * and appending distances, so cards aren't mapped and serialized per request
+ */
+@Component
+public class SearchCardsPageMessageConverter
+        extends AbstractHttpMessageConverter<SearchCardsPage> {
+    private static final byte[] PAGE_START = "{\"currentPage\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CARDS_START = ",\"cards\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DISTANCE = ",\"distance\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAGE_END = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final int CARD_END = '}';
+    private static final int CARDS_DELIMITER = ',';
+
+    public SearchCardsPageMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SearchCardsPage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SearchCardsPage readInternal(
+            Class<? extends SearchCardsPage> clazz,
+            HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException(
+                "Search pages can't be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SearchCardsPage page, HttpOutputMessage outputMessage)
+            throws IOException {
+        OutputStream body = outputMessage.getBody();
+        body.write(PAGE_START);
+        writeNumber(body, page.currentPage());
+        body.write(CARDS_START);
+        for (int i = 0; i < page.cards().size(); i++) {
+            if (i > 0) {
+                body.write(CARDS_DELIMITER);
+            }
+            CardJsonFragment card = page.cards().get(i);
+            body.write(card.json());
+            body.write(DISTANCE);
+            writeNumber(body, card.distance());
+            body.write(CARD_END);
+        }
+        body.write(PAGE_END);
+    }
+
+    private static void writeNumber(OutputStream body, int number) throws IOException {
+        body.write(Integer.toString(number).getBytes(StandardCharsets.US_ASCII));
+    }
+}
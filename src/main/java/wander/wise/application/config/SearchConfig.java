@@ -0,0 +1,38 @@
+package wander.wise.application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class SearchConfig {
+    /**
+     * Runs search steps, that don't depend on the rest of the search.
+     * When it is saturated, a step runs on the searching thread, so the
+     * search gets slower instead of failing
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService searchExecutor(
+            @Value("${search.executor.threads:16}") int threadsCount,
+            @Value("${search.executor.queue-capacity:64}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threadsCount,
+                threadsCount,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("search-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        return ExecutorServiceMetrics.monitor(
+                meterRegistry, executor, "search", Tags.empty());
+    }
+}
@@ -2,7 +2,9 @@ package wander.wise.application.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,9 +19,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import wander.wise.application.security.BoundedPasswordEncoder;
 import wander.wise.application.security.JwtAuthenticationFilter;
 
 @Configuration
@@ -29,10 +35,19 @@ import wander.wise.application.security.JwtAuthenticationFilter;
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.threads:4}") int threadsCount,
+            @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                threadsCount,
+                queueCapacity,
+                meterRegistry);
     }
 
     @Bean
@@ -56,13 +71,19 @@ public class SecurityConfig {
                                 .requestMatchers(
                                         "/auth/**",
                                         "/cards/search",
+                                        "/cards/trending",
                                         "/cards/details/**",
                                         "/users/{id}/profile",
                                         "/users/{id}/social-links",
+                                        "/actuator/health",
                                         "/v3/api-docs/**",
                                         "/swagger-ui/**",
                                         "/swagger-ui.html")
                                 .permitAll()
+                                .requestMatchers(prometheusScrapeMatcher())
+                                .permitAll()
+                                .requestMatchers("/actuator/**")
+                                .hasAuthority("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 )
@@ -77,6 +98,17 @@ public class SecurityConfig {
                 .build();
     }
 
+    /**
+     * Prometheus scrapes without a token. The management port isn't published
+     * outside, so the endpoint is open on it only, other actuator endpoints
+     * stay admin-only
+     */
+    private RequestMatcher prometheusScrapeMatcher() {
+        return new AndRequestMatcher(
+                request -> request.getLocalPort() == managementPort,
+                AntPathRequestMatcher.antMatcher("/actuator/prometheus"));
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthenticationConfiguration authenticationConfiguration)
@@ -0,0 +1,90 @@
+package wander.wise.application.config.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Remembers who has just written to the primary, so their reads don't hit
+ * a replica, that may lag behind. A request, that wrote, reads from the
+ * primary till its end, and an authenticated user does so for the
+ * stickiness window after the last commit
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReadYourWritesTracker {
+    private static final String WROTE_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WROTE";
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long stickinessNanos;
+
+    public ReadYourWritesTracker(
+            @Value("${datasource.replicas.stickiness-millis:5000}") long stickinessMillis) {
+        this.stickinessNanos = TimeUnit.MILLISECONDS.toNanos(stickinessMillis);
+    }
+
+    public void markWrite() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(
+                    WROTE_ATTRIBUTE,
+                    Boolean.TRUE,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        String username = getCurrentUsername();
+        if (username == null) {
+            return;
+        }
+        lastWriteNanos.put(username, System.nanoTime());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The window should start when the write becomes visible
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            lastWriteNanos.put(username, System.nanoTime());
+                        }
+                    });
+        }
+    }
+
+    public boolean isRecentWriter() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null && requestAttributes.getAttribute(
+                WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        String username = getCurrentUsername();
+        if (username == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteNanos.get(username);
+        return lastWrite != null && System.nanoTime() - lastWrite < stickinessNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.cleanup-interval-millis:60000}")
+    public void removeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(lastWrite -> now - lastWrite >= stickinessNanos);
+    }
+
+    private static String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,76 @@
+package wander.wise.application.config.datasource;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to replicas in turn, and
+ * everything else to the primary. Must be wrapped in a lazy connection
+ * proxy, so the connection is taken after the transaction is marked
+ * read-only
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+    private final int replicasCount;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(int replicasCount,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicasCount = replicasCount;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    /**
+     * Runs reads on the primary, when they must see rows, that the current
+     * thread has just committed, like cards generated by a search. Connections
+     * must be taken inside the reads, those of an already started transaction
+     * aren't rerouted
+     */
+    public static <T> T readFromPrimary(Supplier<T> reads) {
+        if (PRIMARY_READS.get() != null) {
+            return reads.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    public void close() {
+        getResolvedDataSources().values().forEach(dataSource -> {
+            if (dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Couldn't close data source", e);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.markWrite();
+            return PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null || readYourWritesTracker.isRecentWriter()) {
+            return PRIMARY;
+        }
+        return replicaKey(Math.floorMod(nextReplica.getAndIncrement(), replicasCount));
+    }
+}
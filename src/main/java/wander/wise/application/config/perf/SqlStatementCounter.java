@@ -0,0 +1,59 @@
+package wander.wise.application.config.perf;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts statements executed through the data source for the current
+ * request, JdbcTemplate and batches included, a batch counts once.
+ * Tasks of other threads are counted, when they are wrapped with
+ * propagate
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+    private static final ThreadLocal<AtomicInteger> REQUEST_STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        AtomicInteger statements = REQUEST_STATEMENTS.get();
+        if (statements != null) {
+            statements.incrementAndGet();
+        }
+    }
+
+    static AtomicInteger start() {
+        AtomicInteger statements = new AtomicInteger();
+        REQUEST_STATEMENTS.set(statements);
+        return statements;
+    }
+
+    static void stop() {
+        REQUEST_STATEMENTS.remove();
+    }
+
+    static Runnable propagate(Runnable task) {
+        AtomicInteger statements = REQUEST_STATEMENTS.get();
+        if (statements == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = REQUEST_STATEMENTS.get();
+            REQUEST_STATEMENTS.set(statements);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    REQUEST_STATEMENTS.remove();
+                } else {
+                    REQUEST_STATEMENTS.set(previous);
+                }
+            }
+        };
+    }
+}
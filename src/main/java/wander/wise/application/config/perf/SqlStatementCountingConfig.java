@@ -0,0 +1,42 @@
+package wander.wise.application.config.perf;
+
+import java.util.concurrent.ExecutorService;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Wraps the data source, that the application uses, so every statement
+ * reaches SqlStatementCounter, and the search executor, so statements of
+ * search steps count for their request
+ */
+@Configuration
+@Profile("perf")
+public class SqlStatementCountingConfig {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+    private static final String SEARCH_EXECUTOR_BEAN = "searchExecutor";
+
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_BEAN)
+                            .listener(new SqlStatementCounter())
+                            .build();
+                }
+                if (bean instanceof ExecutorService executorService
+                        && SEARCH_EXECUTOR_BEAN.equals(beanName)) {
+                    return new StatementCountingExecutorService(executorService);
+                }
+                return bean;
+            }
+        };
+    }
+}
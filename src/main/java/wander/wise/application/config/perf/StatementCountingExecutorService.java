@@ -0,0 +1,45 @@
+package wander.wise.application.config.perf;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts statements of submitted tasks for the request, that submitted them
+ */
+@RequiredArgsConstructor
+class StatementCountingExecutorService extends AbstractExecutorService {
+    private final ExecutorService executorService;
+
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(SqlStatementCounter.propagate(command));
+    }
+
+    @Override
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+}
@@ -15,6 +15,7 @@ public class AiApiServiceConstants {
     public static final String LIST_FORMATING_RULES = "Give me the list of "
             + "location. Return information as "
             + "json object. Use this format: ";
+    public static final int LOCATIONS_TO_EXCLUDE_SAMPLE_SIZE = 20;
     public static final String LOCATION_NAMES_FIELD_FORMAT = "\"locationNames\": "
             + "[\"Location name1|Populated locality|Region|Country|Continent\", "
             + "\"Location name 2|Populated locality|Region|Country|Continent\", "
@@ -137,11 +137,15 @@ public class SwaggerConstants {
             5. **Other related information:**
             - The search is performed based on the provided `CardSearchParameters`.
             - Pagination is supported through `Pageable`.
-            - The search will attempt to find existing cards or generate new ones if necessary.""";
+            - The search will attempt to find existing cards or generate new ones if necessary.
+            - Generation is rate limited per user, or per IP address for anonymous clients,
+            and by the number of concurrent generations. Limited searches return
+            existing cards only.""";
     public static final String FIND_CARD_BY_ID_SUM = "Retrieve a card's details by its ID";
     public static final String FIND_CARD_BY_ID_DESC = """
             1. **Possible response codes and messages:**
             - `200 OK`: Successful retrieval of the card's details
+            - `304 NOT_MODIFIED`: Not changed since the version sent in `If-None-Match`
             - `404 NOT_FOUND`: No card found with the provided ID
             2. **Authorities that have access to the endpoint:**
             -  Accessible by any user without authentication
@@ -313,20 +317,98 @@ public class SwaggerConstants {
     public static final String REPORT_CARD_SUM = "Report a card by its ID";
     public static final String REPORT_CARD_DESC = """
             1. **Possible response codes and messages:**
-            - `200 OK`: Report message was sent to the util email.
+            - `200 OK`: Report was added to the moderation queue.
             - `404 NOT_FOUND`: Can't find card by id.
-            - `500 INTERNAL_SERVER_ERROR`: Can't send report email.
             2. **Authorities that have access to the endpoint:**
             - `USER`
             3. **Exceptions that can be thrown:**
             - `EntityNotFoundException`: Can't find card by id.
-            - `EmailServiceException`: Can't send report email.
             4. **Request fields constraints (according to validation):**
             - `text`: Must not be blank
             5. **Other related information:**
-            - The endpoint allows users to report a card, which increments 
-            the report count and sends an email notification.
-            - The report includes the user's email, card ID, and report text.""";
+            - The endpoint allows users to report a card. The report includes
+            the user's email, card ID, and report text.
+            - Reports are reviewed by admins through the moderation queue.
+            - A card is hidden automatically once enough users have reported it.""";
+    public static final String SEARCH_STATS_SUM = "Get aggregated statistics of recent searches";
+    public static final String SEARCH_STATS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Statistics were successfully retrieved.
+            - `403 FORBIDDEN`: Access denied.
+            2. **Authorities that have access to the endpoint:**
+            - `ADMIN`
+            3. **Exceptions that can be thrown:**
+            - None
+            4. **Request fields constraints (according to validation):**
+            - `days`: Period to aggregate in days, 7 by default
+            - `limit`: Maximum number of returned groups, 50 by default
+            5. **Other related information:**
+            - Searches are grouped by start location, travel distance and trip types,
+            most frequent first.
+            - Each group contains number of searches, average number of results,
+            share of searches, that generated cards or were served from cache,
+            and average search time in milliseconds.
+            - Searches are saved in batches every few seconds, so the latest
+            ones may be missing.""";
+    public static final String TRENDING_CARDS_SUM = "Get trending cards";
+    public static final String TRENDING_CARDS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Trending cards were successfully retrieved.
+            2. **Authorities that have access to the endpoint:**
+            - This endpoint is publicly accessible.
+            3. **Exceptions that can be thrown:**
+            -  None
+            4. **Request fields constraints (according to validation):**
+            - `continent`: Optional, e.g. `Europe`, case insensitive
+            - `region`: Optional, e.g. `Catalonia`, takes precedence over `continent`
+            - `limit`: Maximum number of returned cards, 20 by default, at most 50
+            5. **Other related information:**
+            - Without `continent` and `region` cards are trending worldwide.
+            - Views, comments, saves and likes raise a card's score, 
+            older ones count exponentially less (24 hours half-life by default).
+            - Cards are served from memory, new events show up within a second.
+            - Hidden and deleted cards are removed from the trending cards.""";
+    public static final String IMPORT_CARDS_SUM = "Import cards from NDJSON";
+    public static final String IMPORT_CARDS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Import finished, numbers of imported and skipped cards are returned.
+            - `403 FORBIDDEN`: Access denied.
+            - `500 INTERNAL_SERVER_ERROR`: Request body couldn't be read.
+            2. **Authorities that have access to the endpoint:**
+            - `ADMIN`
+            3. **Exceptions that can be thrown:**
+            - `CardTransferException`: Request body couldn't be read.
+            4. **Request fields constraints (according to validation):**
+            - Request body is `application/x-ndjson`, one card JSON per line.
+            - `fullName`: Must consist of five non-empty parts separated with "|"
+            - `author`, `tripTypes`, `climate`, `specialRequirements`, `description`,
+            `whyThisPlace`: Must not be blank
+            - `imageLinks`, `mapLink`, `latitude`, `longitude`, `likes`, `shown`: Optional
+            5. **Other related information:**
+            - Lines are read one by one, invalid lines are skipped and reported.
+            - Cards without coordinates or map link are geocoded by name and
+            populated locality, cards that can't be geocoded are skipped.
+            - Cards are saved in batches. A card with an existing full name
+            replaces the existing one, so import can be repeated.
+            - Batches are committed one by one, so a failed import keeps
+            already saved batches.
+            - Only the first errors are listed in the response.""";
+    public static final String EXPORT_CARDS_SUM = "Export all cards as NDJSON";
+    public static final String EXPORT_CARDS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Cards are streamed as `application/x-ndjson`.
+            - `403 FORBIDDEN`: Access denied.
+            2. **Authorities that have access to the endpoint:**
+            - `ADMIN`
+            3. **Exceptions that can be thrown:**
+            -  None
+            4. **Request fields constraints (according to validation):**
+            - No request fields.
+            5. **Other related information:**
+            - Each line has the same format as import lines, so export
+            of one environment can be imported into another.
+            - Hidden cards are exported too, deleted cards and comments are not.
+            - Cards are read from a database cursor and written as they are read.""";
     public static final String HIDE_CARD_SUM = "Hide a card from public view by its ID";
     public static final String HIDE_CARD_DESC = """
             1. **Possible response codes and messages:**
@@ -401,6 +483,7 @@ public class SwaggerConstants {
     public static final String FIND_COLLECTION_BY_ID_DESC = """
             1. **Possible response codes and messages:**
             - `200 OK`: Collection found and returned successfully
+            - `304 NOT_MODIFIED`: Not changed since the version sent in `If-None-Match`
             - `403 FORBIDDEN`: You don't have access to this collection. 
             Ask its owner to make it public.
             - `404 NOT_FOUND`: Can't find collection by id.
@@ -415,7 +498,29 @@ public class SwaggerConstants {
             5. **Other related information:**
             - The endpoint retrieves a collection if it is public 
             or if the authenticated user is the owner.
-            - Private collections can only be accessed by their owners.""";
+            - Private collections can only be accessed by their owners.
+            - The collection comes with its cards count, the cards 
+            themselves are retrieved by pages from `/collections/{id}/cards`.""";
+    public static final String FIND_COLLECTION_CARDS_SUM = "Find cards of a collection by pages";
+    public static final String FIND_COLLECTION_CARDS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Page of the collection's cards returned successfully
+            - `403 FORBIDDEN`: You don't have access to this collection. 
+            Ask its owner to make it public.
+            - `404 NOT_FOUND`: Can't find collection by id.
+            2. **Authorities that have access to the endpoint:**
+            - `USER`
+            3. **Exceptions that can be thrown:**
+            - `EntityNotFoundException`: Can't find collection by id.
+            - `AuthorizationException`: You don't have access to this 
+            collection. Ask its owner to make it public.
+            4. **Request fields constraints (according to validation):**
+            - `id`: Must be a valid collection ID
+            - `page`, `size`, `sort`: Standard pagination parameters, 
+            `sort` takes card fields, e.g. `sort=likes,desc`
+            5. **Other related information:**
+            - Access rules are the same as for retrieving the collection.
+            - The cost of a page doesn't depend on the size of the collection.""";
     public static final String UPDATE_COLLECTION_BY_ID_SUM = "Update a collection by its ID";
     public static final String UPDATE_COLLECTION_BY_ID_DESC = """
             1. **Possible response codes and messages:**
@@ -496,22 +601,17 @@ public class SwaggerConstants {
     public static final String REPORT_COMMENT_SUM = "Report a comment by its ID";
     public static final String REPORT_COMMENT_DESC = """
             1. **Possible response codes and messages:**
-            - `200 OK`: Report message was sent successfully.
+            - `200 OK`: Report was added to the moderation queue.
             - `404 NOT_FOUND`: Can't find comment by id.
-            - `500 INTERNAL_SERVER_ERROR`: Email service failed to send the report.
             2. **Authorities that have access to the endpoint:**
             - `USER`
             3. **Exceptions that can be thrown:**
             - `EntityNotFoundException`: Can't find comment by id.
-            - `EmailServiceException`: Email service failed to send the report.
             4. **Request fields constraints (according to validation):**
-            - `commentAuthor`: Must not be blank
-            - `commentText`: Must not be blank
             - `reportText`: Must not be blank
             5. **Other related information:**
-            - The report includes the user's email, comment author, comment text, and report text.
-            - The reported comment's report count is incremented.
-            - Reports are sent to a predefined email address.""";
+            - The report includes the user's email, comment ID and report text.
+            - Reports are reviewed by admins through the moderation queue.""";
     public static final String DELETE_COMMENT_SUM = "Delete a comment by its ID";
     public static final String DELETE_COMMENT_DESC = """
             1. **Possible response codes and messages:**
@@ -529,6 +629,45 @@ public class SwaggerConstants {
             5. **Other related information:**
             - Only the author of the comment or an admin can delete the comment.""";
 
+    /**
+     * Reports controller documentation
+     */
+    public static final String FIND_UNRESOLVED_REPORTS_SUM = "Get the moderation queue";
+    public static final String FIND_UNRESOLVED_REPORTS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Page of reported targets was successfully retrieved.
+            - `400 BAD_REQUEST`: Unknown target type.
+            - `403 FORBIDDEN`: Access denied.
+            2. **Authorities that have access to the endpoint:**
+            - `ADMIN`
+            3. **Exceptions that can be thrown:**
+            -  None
+            4. **Request fields constraints (according to validation):**
+            - `targetType`: `CARD` or `COMMENT`
+            5. **Other related information:**
+            - Unresolved reports are grouped by target, targets reported by most
+            users first.
+            - Each entry contains number of reports, number of distinct reporters,
+            that auto-hiding counts, and the time of the first and the last one.
+            - Pagination is supported through `Pageable`.""";
+    public static final String RESOLVE_REPORTS_SUM = "Resolve all reports of a target";
+    public static final String RESOLVE_REPORTS_DESC = """
+            1. **Possible response codes and messages:**
+            - `200 OK`: Reports were resolved.
+            - `400 BAD_REQUEST`: Target has no unresolved reports.
+            - `403 FORBIDDEN`: Access denied.
+            2. **Authorities that have access to the endpoint:**
+            - `ADMIN`
+            3. **Exceptions that can be thrown:**
+            -  None
+            4. **Request fields constraints (according to validation):**
+            - `targetType`: `CARD` or `COMMENT`
+            - `targetId`: ID of the reported card or comment
+            5. **Other related information:**
+            - Resolved reports leave the moderation queue and don't count
+            towards automatic hiding.
+            - Hidden cards are not revealed, use the reveal endpoint for that.""";
+
     /**
      * Social links controller documentation
      */
@@ -595,6 +734,7 @@ public class SwaggerConstants {
     public static final String GET_USER_PROFILE_DESC = """
             1. **Possible response codes and messages:**
             - `200 OK`: User profile retrieved successfully
+            - `304 NOT_MODIFIED`: Not changed since the version sent in `If-None-Match`
             - `404 NOT FOUND`: Can't find user by id: {id}
             2. **Authorities that have access to the endpoint:**
             - This endpoint is publicly accessible.
@@ -634,7 +774,8 @@ public class SwaggerConstants {
             - There are no request body fields for this GET operation.
             5. **Other related information:**
             - The endpoint initializes the image link of a collection 
-            if it is not set and the collection has cards.""";
+            if it is not set and the collection has cards.
+            - Collections come with their cards count instead of cards.""";
     public static final String GET_USER_COMMENTS_SUM = "Retrieve a user's comments";
     public static final String GET_USER_COMMENTS_DESC = """
             1. **Possible response codes and messages:**
@@ -649,8 +790,10 @@ public class SwaggerConstants {
             not match the authenticated user's email
             4. **Request fields constraints (according to validation):**
             - There are no request body fields for this GET operation.
+            - `page`, `size`: Standard pagination parameters, `sort` is ignored
             5. **Other related information:**
-            - The endpoint retrieves all comments associated with the user's email.""";
+            - The endpoint retrieves the user's comments by pages, newest first.
+            - Every comment comes with the id and name of its card.""";
     public static final String UPDATE_USER_INFO_SUM = "Update user information";
     public static final String UPDATE_USER_INFO_DESC = """
             1. **Possible response codes and messages:**
@@ -8,12 +8,16 @@ import static wander.wise.application.constants.SwaggerConstants.CREATE_NEW_CARD
 import static wander.wise.application.constants.SwaggerConstants.CREATE_NEW_CARD_SUM;
 import static wander.wise.application.constants.SwaggerConstants.DELETE_CARD_DESC;
 import static wander.wise.application.constants.SwaggerConstants.DELETE_CARD_SUM;
+import static wander.wise.application.constants.SwaggerConstants.EXPORT_CARDS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.EXPORT_CARDS_SUM;
 import static wander.wise.application.constants.SwaggerConstants.FIND_CARD_BY_ID_AS_ADMIN_DESC;
 import static wander.wise.application.constants.SwaggerConstants.FIND_CARD_BY_ID_AS_ADMIN_SUM;
 import static wander.wise.application.constants.SwaggerConstants.FIND_CARD_BY_ID_DESC;
 import static wander.wise.application.constants.SwaggerConstants.FIND_CARD_BY_ID_SUM;
 import static wander.wise.application.constants.SwaggerConstants.HIDE_CARD_DESC;
 import static wander.wise.application.constants.SwaggerConstants.HIDE_CARD_SUM;
+import static wander.wise.application.constants.SwaggerConstants.IMPORT_CARDS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.IMPORT_CARDS_SUM;
 import static wander.wise.application.constants.SwaggerConstants.POST_LIKE_TO_CARD_DESC;
 import static wander.wise.application.constants.SwaggerConstants.POST_LIKE_TO_CARD_SUM;
 import static wander.wise.application.constants.SwaggerConstants.REMOVE_CARD_FROM_SAVED_DESC;
@@ -26,13 +30,21 @@ import static wander.wise.application.constants.SwaggerConstants.REVEAL_CARD_DES
 import static wander.wise.application.constants.SwaggerConstants.REVEAL_CARD_SUM;
 import static wander.wise.application.constants.SwaggerConstants.SEARCH_CARDS_DESC;
 import static wander.wise.application.constants.SwaggerConstants.SEARCH_CARDS_SUM;
+import static wander.wise.application.constants.SwaggerConstants.SEARCH_STATS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.SEARCH_STATS_SUM;
+import static wander.wise.application.constants.SwaggerConstants.TRENDING_CARDS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.TRENDING_CARDS_SUM;
 import static wander.wise.application.constants.SwaggerConstants.UPDATE_CARD_BY_ID_DESC;
 import static wander.wise.application.constants.SwaggerConstants.UPDATE_CARD_BY_ID_SUM;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -48,32 +60,66 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.dto.card.CardImportResultDto;
 import wander.wise.application.dto.card.CardSearchParameters;
 import wander.wise.application.dto.card.CreateCardRequestDto;
 import wander.wise.application.dto.card.ReportCardRequestDto;
-import wander.wise.application.dto.card.SearchCardsResponseDto;
+import wander.wise.application.dto.card.SearchCardsPage;
+import wander.wise.application.dto.card.SearchStatsDto;
+import wander.wise.application.dto.card.TrendingCardDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.service.card.CardService;
+import wander.wise.application.service.card.transfer.CardTransferService;
 
 @Tag(name = "Card management endpoints")
 @RestController
 @RequestMapping("/cards")
 @RequiredArgsConstructor
 public class CardController {
-    private static final String REPORT_EMAIL = "budzetbudzet4@gmail.com";
+    private static final String NDJSON = "application/x-ndjson";
     private final CardService cardService;
+    private final CardTransferService cardTransferService;
 
     @PostMapping("/search")
     @Operation(summary = SEARCH_CARDS_SUM, description = SEARCH_CARDS_DESC)
-    public SearchCardsResponseDto search(@RequestBody CardSearchParameters searchParameters,
-                                         Pageable pageable) {
-        return cardService.search(pageable, searchParameters);
+    public SearchCardsPage search(@RequestBody CardSearchParameters searchParameters,
+                                  Pageable pageable,
+                                  Authentication authentication,
+                                  HttpServletRequest request) {
+        return cardService.search(pageable, searchParameters,
+                getClientKey(authentication, request));
+    }
+
+    @GetMapping("/search-stats")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = SEARCH_STATS_SUM, description = SEARCH_STATS_DESC)
+    public List<SearchStatsDto> getSearchStats(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "50") int limit) {
+        return cardService.getSearchStats(days, limit);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = TRENDING_CARDS_SUM, description = TRENDING_CARDS_DESC)
+    public List<TrendingCardDto> getTrending(
+            @RequestParam(required = false) String continent,
+            @RequestParam(required = false) String region,
+            @RequestParam(defaultValue = "20") int limit) {
+        return cardService.getTrending(continent, region, limit);
     }
 
     @GetMapping("/details/{id}")
     @Operation(summary = FIND_CARD_BY_ID_SUM, description = FIND_CARD_BY_ID_DESC)
-    public CardDto findById(@PathVariable Long id) {
+    public CardDto findById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<VersionDto> version = cardService.findVersionById(id);
+        if (version.isPresent() && webRequest.checkNotModified(
+                version.get().eTag(), version.get().lastModified())) {
+            return null;
+        }
         return cardService.findById(id);
     }
 
@@ -84,6 +130,20 @@ public class CardController {
         return cardService.findByIdAsAdmin(id);
     }
 
+    @PostMapping(value = "/import", consumes = NDJSON)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = IMPORT_CARDS_SUM, description = IMPORT_CARDS_DESC)
+    public CardImportResultDto importCards(HttpServletRequest request) throws IOException {
+        return cardTransferService.importCards(request.getInputStream());
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = EXPORT_CARDS_SUM, description = EXPORT_CARDS_DESC)
+    public StreamingResponseBody exportCards() {
+        return cardTransferService::exportCards;
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('USER')")
     @Operation(summary = CREATE_NEW_CARD_SUM, description = CREATE_NEW_CARD_DESC)
@@ -185,8 +245,7 @@ public class CardController {
                                          @Valid @RequestBody ReportCardRequestDto requestDto) {
         cardService.report(id, authentication.getName(), requestDto);
         return new ResponseEntity<>(
-                "Report message was sent to email: " 
-                        + REPORT_EMAIL,
+                "Report was added to the moderation queue.",
                 HttpStatus.OK);
     }
 
@@ -227,4 +286,16 @@ public class CardController {
         cardService.deleteById(id, authentication.getName());
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Behind trusted proxies the remote address is the client one from
+     * X-Forwarded-For, see server.forward-headers-strategy
+     */
+    private static String getClientKey(Authentication authentication,
+                                       HttpServletRequest request) {
+        if (authentication != null) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
 }
@@ -4,6 +4,8 @@ import static wander.wise.application.constants.SwaggerConstants.DELETE_COLLECTI
 import static wander.wise.application.constants.SwaggerConstants.DELETE_COLLECTION_BY_ID_SUM;
 import static wander.wise.application.constants.SwaggerConstants.FIND_COLLECTION_BY_ID_DESC;
 import static wander.wise.application.constants.SwaggerConstants.FIND_COLLECTION_BY_ID_SUM;
+import static wander.wise.application.constants.SwaggerConstants.FIND_COLLECTION_CARDS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.FIND_COLLECTION_CARDS_SUM;
 import static wander.wise.application.constants.SwaggerConstants.SAVE_COLLECTION_DESC;
 import static wander.wise.application.constants.SwaggerConstants.SAVE_COLLECTION_SUM;
 import static wander.wise.application.constants.SwaggerConstants.UPDATE_COLLECTION_BY_ID_DESC;
@@ -12,7 +14,10 @@ import static wander.wise.application.constants.SwaggerConstants.UPDATE_COLLECTI
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,10 +30,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import wander.wise.application.dto.card.CardDto;
 import wander.wise.application.dto.collection.CollectionDto;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
 import wander.wise.application.dto.collection.CreateCollectionRequestDto;
 import wander.wise.application.dto.collection.UpdateCollectionRequestDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.service.collection.CollectionService;
 
 @Tag(name = "Collection management endpoints")
@@ -49,11 +57,27 @@ public class CollectionController {
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('USER')")
     @Operation(summary = FIND_COLLECTION_BY_ID_SUM, description = FIND_COLLECTION_BY_ID_DESC)
-    public CollectionDto findById(@PathVariable Long id,
-                                  Authentication authentication) {
+    public CollectionWithoutCardsDto findById(@PathVariable Long id,
+                                              Authentication authentication,
+                                              WebRequest webRequest) {
+        Optional<VersionDto> version = collectionService
+                .findVersionById(id, authentication.getName());
+        if (version.isPresent() && webRequest.checkNotModified(
+                version.get().eTag(), version.get().lastModified())) {
+            return null;
+        }
         return collectionService.findById(id, authentication.getName());
     }
 
+    @GetMapping("/{id}/cards")
+    @PreAuthorize("hasAuthority('USER')")
+    @Operation(summary = FIND_COLLECTION_CARDS_SUM, description = FIND_COLLECTION_CARDS_DESC)
+    public List<CardDto> findCards(@PathVariable Long id,
+                                   Authentication authentication,
+                                   Pageable pageable) {
+        return collectionService.findCards(id, authentication.getName(), pageable);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAuthority('USER')")
     @Operation(summary = UPDATE_COLLECTION_BY_ID_SUM, description = UPDATE_COLLECTION_BY_ID_DESC)
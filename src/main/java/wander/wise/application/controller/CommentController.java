@@ -34,7 +34,6 @@ import wander.wise.application.service.comment.CommentService;
 @RequestMapping("/comments")
 @RequiredArgsConstructor
 public class CommentController {
-    private static final String REPORT_EMAIL = "budzetbudzet4@gmail.com";
     private final CommentService commentService;
 
     @PostMapping
@@ -61,8 +60,7 @@ public class CommentController {
                                          @Valid @RequestBody ReportCommentRequestDto requestDto) {
         commentService.report(id, authentication.getName(), requestDto);
         return new ResponseEntity<>(
-                "Report message was sent to email: "
-                        + REPORT_EMAIL,
+                "Report was added to the moderation queue.",
                 HttpStatus.OK);
     }
 
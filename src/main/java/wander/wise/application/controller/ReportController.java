@@ -0,0 +1,57 @@
+package wander.wise.application.controller;
+
+import static wander.wise.application.constants.SwaggerConstants.FIND_UNRESOLVED_REPORTS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.FIND_UNRESOLVED_REPORTS_SUM;
+import static wander.wise.application.constants.SwaggerConstants.RESOLVE_REPORTS_DESC;
+import static wander.wise.application.constants.SwaggerConstants.RESOLVE_REPORTS_SUM;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import wander.wise.application.dto.report.ReportSummaryDto;
+import wander.wise.application.model.Report;
+import wander.wise.application.service.report.ReportService;
+
+@Tag(name = "Moderation endpoints")
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+    private final ReportService reportService;
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = FIND_UNRESOLVED_REPORTS_SUM, description = FIND_UNRESOLVED_REPORTS_DESC)
+    public List<ReportSummaryDto> findUnresolved(
+            @RequestParam Report.TargetType targetType,
+            Pageable pageable) {
+        return reportService.findUnresolved(targetType, pageable);
+    }
+
+    @PutMapping("/resolve/{targetType}/{targetId}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @Operation(summary = RESOLVE_REPORTS_SUM, description = RESOLVE_REPORTS_DESC)
+    public ResponseEntity<String> resolve(@PathVariable Report.TargetType targetType,
+                                          @PathVariable Long targetId) {
+        if (reportService.resolve(targetType, targetId)) {
+            return new ResponseEntity<>(
+                    "Reports were resolved.",
+                    HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(
+                    "Target has no unresolved reports.",
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -30,8 +30,11 @@ import static wander.wise.application.constants.SwaggerConstants.UPDATE_USER_ROL
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -45,9 +48,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
-import wander.wise.application.dto.comment.CommentDto;
+import wander.wise.application.dto.comment.UserCommentDto;
 import wander.wise.application.dto.social.link.SocialLinkDto;
 import wander.wise.application.dto.user.UserDto;
 import wander.wise.application.dto.user.login.LoginResponseDto;
@@ -55,6 +59,7 @@ import wander.wise.application.dto.user.update.UpdateUserEmailRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserInfoRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserPasswordRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserRolesRequestDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.service.user.UserService;
 
 @Tag(name = "User management endpoints")
@@ -66,7 +71,12 @@ public class UserController {
 
     @GetMapping("/{id}/profile")
     @Operation(summary = GET_USER_PROFILE_SUM, description = GET_USER_PROFILE_DESC)
-    public UserDto getUserProfile(@PathVariable Long id) {
+    public UserDto getUserProfile(@PathVariable Long id, WebRequest webRequest) {
+        Optional<VersionDto> version = userService.findVersionById(id);
+        if (version.isPresent() && webRequest.checkNotModified(
+                version.get().eTag(), version.get().lastModified())) {
+            return null;
+        }
         return userService.findById(id);
     }
 
@@ -87,9 +97,10 @@ public class UserController {
     @GetMapping("/{id}/comments")
     @PreAuthorize("hasAuthority('USER')")
     @Operation(summary = GET_USER_COMMENTS_SUM, description = GET_USER_COMMENTS_DESC)
-    public Set<CommentDto> getUserComments(@PathVariable Long id,
-                                           Authentication authentication) {
-        return userService.getUserComments(id, authentication.getName());
+    public List<UserCommentDto> getUserComments(@PathVariable Long id,
+                                                Authentication authentication,
+                                                Pageable pageable) {
+        return userService.getUserComments(id, authentication.getName(), pageable);
     }
 
     @PutMapping("/update-user-info/{id}")
@@ -23,6 +23,7 @@ public class CardDto {
     private String mapLink;
     private int distance;
     private Long likes;
+    private Double averageStars;
     private Set<CommentDto> comments;
     private boolean shown;
 }
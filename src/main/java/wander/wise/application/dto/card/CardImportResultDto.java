@@ -0,0 +1,10 @@
+package wander.wise.application.dto.card;
+
+import java.util.List;
+
+public record CardImportResultDto(
+        long imported,
+        long invalid,
+        long notGeocoded,
+        List<String> errors) {
+}
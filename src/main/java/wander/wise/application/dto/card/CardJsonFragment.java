@@ -0,0 +1,8 @@
+package wander.wise.application.dto.card;
+
+/**
+ * @param json UTF-8 card JSON without the distance and the closing brace
+ * @param distance distance to the searched start location
+ */
+public record CardJsonFragment(byte[] json, int distance) {
+}
@@ -0,0 +1,7 @@
+package wander.wise.application.dto.card;
+
+public record CardLocationDto(
+        Long id,
+        double latitude,
+        double longitude) {
+}
@@ -0,0 +1,6 @@
+package wander.wise.application.dto.card;
+
+public record CardNameDto(
+        Long id,
+        String fullName) {
+}
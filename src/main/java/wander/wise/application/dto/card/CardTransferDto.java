@@ -0,0 +1,24 @@
+package wander.wise.application.dto.card;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * One NDJSON line of card import and export. List fields are joined with
+ * "|" as they are stored. Cards without coordinates are geocoded on import
+ */
+public record CardTransferDto(
+        @NotBlank @Pattern(regexp = "([^|]+\\|){4}[^|]+") String fullName,
+        @NotBlank String author,
+        @NotBlank String tripTypes,
+        @NotBlank String climate,
+        @NotBlank String specialRequirements,
+        @NotBlank String description,
+        @NotBlank String whyThisPlace,
+        String imageLinks,
+        String mapLink,
+        Double latitude,
+        Double longitude,
+        Long likes,
+        Boolean shown) {
+}
@@ -0,0 +1,12 @@
+package wander.wise.application.dto.card;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Search page made of pre-serialized cards. It is written straight to the
+ * response and has the same JSON shape as {@link SearchCardsResponseDto}
+ */
+@Schema(implementation = SearchCardsResponseDto.class)
+public record SearchCardsPage(Integer currentPage, List<CardJsonFragment> cards) {
+}
@@ -0,0 +1,12 @@
+package wander.wise.application.dto.card;
+
+public record SearchStatsDto(
+        String startLocation,
+        String travelDistance,
+        String tripTypes,
+        long searches,
+        double avgResultsCount,
+        double generationRate,
+        double cacheHitRate,
+        double avgTotalMillis) {
+}
@@ -0,0 +1,8 @@
+package wander.wise.application.dto.card;
+
+public record TrendingCardDto(
+        Long id,
+        String name,
+        String whereIs,
+        double score) {
+}
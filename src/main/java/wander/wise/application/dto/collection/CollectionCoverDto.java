@@ -0,0 +1,6 @@
+package wander.wise.application.dto.collection;
+
+public record CollectionCoverDto(
+        Long collectionId,
+        String imageLinks) {
+}
@@ -5,5 +5,9 @@ public record CollectionWithoutCardsDto(
         String author,
         String name,
         String imageLink,
-        boolean isPublic) {
+        boolean isPublic,
+        long cardsCount) {
+    public CollectionWithoutCardsDto withImageLink(String imageLink) {
+        return new CollectionWithoutCardsDto(id, author, name, imageLink, isPublic, cardsCount);
+    }
 }
@@ -0,0 +1,14 @@
+package wander.wise.application.dto.comment;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+
+public record UserCommentDto(
+        Long id,
+        @JsonFormat(pattern = "dd.MM.yyyy HH:mm:ss")
+        LocalDateTime timeStamp,
+        String text,
+        Integer stars,
+        Long cardId,
+        String cardName) {
+}
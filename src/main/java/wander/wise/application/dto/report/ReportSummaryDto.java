@@ -0,0 +1,13 @@
+package wander.wise.application.dto.report;
+
+import java.time.LocalDateTime;
+import wander.wise.application.model.Report;
+
+public record ReportSummaryDto(
+        Report.TargetType targetType,
+        Long targetId,
+        long reports,
+        long reporters,
+        LocalDateTime firstReportedAt,
+        LocalDateTime lastReportedAt) {
+}
@@ -0,0 +1,13 @@
+package wander.wise.application.dto.version;
+
+import java.time.LocalDateTime;
+
+public record CollectionVersionDto(
+        Long id,
+        long version,
+        LocalDateTime updatedAt,
+        boolean isPublic,
+        String ownerEmail,
+        long ownerVersion,
+        long cardsCount) {
+}
@@ -0,0 +1,9 @@
+package wander.wise.application.dto.version;
+
+import java.time.LocalDateTime;
+
+public record EntityVersionDto(
+        Long id,
+        long version,
+        LocalDateTime updatedAt) {
+}
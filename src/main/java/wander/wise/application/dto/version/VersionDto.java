@@ -0,0 +1,38 @@
+package wander.wise.application.dto.version;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record VersionDto(
+        String eTag,
+        long lastModified) {
+    public static VersionDto of(String prefix, EntityVersionDto entityVersion) {
+        return new VersionDto(
+                toETag(prefix, entityVersion.id(), String.valueOf(entityVersion.version())),
+                toMillis(entityVersion.updatedAt()));
+    }
+
+    /**
+     * Collection body contains its owner's pseudonym and cards count, so
+     * they are folded into the collection ETag. Cards come by pages and
+     * aren't part of it
+     */
+    public static VersionDto of(CollectionVersionDto collectionVersion) {
+        return new VersionDto(
+                toETag(
+                        "collection",
+                        collectionVersion.id(),
+                        collectionVersion.version()
+                                + "-" + collectionVersion.ownerVersion()
+                                + "-" + collectionVersion.cardsCount()),
+                toMillis(collectionVersion.updatedAt()));
+    }
+
+    private static String toETag(String prefix, Long id, String version) {
+        return "\"" + prefix + "-" + id + "-" + version + "\"";
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
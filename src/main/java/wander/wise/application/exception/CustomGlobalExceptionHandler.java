@@ -12,6 +12,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,11 +24,13 @@ import wander.wise.application.dto.exception.ExceptionDto;
 import wander.wise.application.dto.exception.ExceptionResponseDto;
 import wander.wise.application.exception.custom.AuthorizationException;
 import wander.wise.application.exception.custom.CardSearchException;
+import wander.wise.application.exception.custom.CardTransferException;
 import wander.wise.application.exception.custom.EmailServiceException;
 import wander.wise.application.exception.custom.ImageSearchServiceException;
 import wander.wise.application.exception.custom.JwtValidationException;
 import wander.wise.application.exception.custom.AiServiceException;
 import wander.wise.application.exception.custom.MapsServiceException;
+import wander.wise.application.exception.custom.PasswordHashingException;
 import wander.wise.application.exception.custom.RegistrationException;
 import wander.wise.application.exception.custom.StorageServiceException;
 
@@ -79,6 +82,11 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(CardTransferException.class)
+    public ResponseEntity<ExceptionResponseDto> handleCardTransferException(CardTransferException exception) {
+        return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @ExceptionHandler(EmailServiceException.class)
     public ResponseEntity<ExceptionResponseDto> handleEmailServiceException(EmailServiceException exception) {
         return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -99,11 +107,21 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @ExceptionHandler(PasswordHashingException.class)
+    public ResponseEntity<ExceptionResponseDto> handlePasswordHashingException(PasswordHashingException exception) {
+        return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(RegistrationException.class)
     public ResponseEntity<ExceptionResponseDto> handleRegistrationException(RegistrationException exception) {
         return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponseDto> handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException exception) {
+        return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(SQLIntegrityConstraintViolationException.class)
     public ResponseEntity<ExceptionResponseDto> handleSQLIntegrityConstraintViolationException(SQLIntegrityConstraintViolationException exception) {
         return new ResponseEntity<>(getResponseMessage(exception), HttpStatus.BAD_REQUEST);
@@ -4,4 +4,8 @@ public class CardSearchException extends RuntimeException {
     public CardSearchException(String message) {
         super(message);
     }
+
+    public CardSearchException(String message, Exception exception) {
+        super(message, exception);
+    }
 }
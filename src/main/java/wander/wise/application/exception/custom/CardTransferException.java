@@ -0,0 +1,7 @@
+package wander.wise.application.exception.custom;
+
+public class CardTransferException extends RuntimeException {
+    public CardTransferException(String message, Exception exception) {
+        super(message, exception);
+    }
+}
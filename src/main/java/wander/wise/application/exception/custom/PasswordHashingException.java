@@ -0,0 +1,11 @@
+package wander.wise.application.exception.custom;
+
+public class PasswordHashingException extends RuntimeException {
+    public PasswordHashingException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
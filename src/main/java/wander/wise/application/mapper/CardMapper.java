@@ -11,6 +11,7 @@ import org.mapstruct.Named;
 import wander.wise.application.config.MapperConfig;
 import wander.wise.application.dto.ai.AiResponseDto;
 import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.dto.card.CardTransferDto;
 import wander.wise.application.dto.card.CreateCardRequestDto;
 import wander.wise.application.model.Card;
 
@@ -43,6 +44,20 @@ public interface CardMapper {
     @Mapping(target = "imageLinks", ignore = true)
     Card toModel(CreateCardRequestDto requestDto);
 
+    CardTransferDto toTransferDto(Card card);
+
+    CardDto copy(CardDto cardDto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    @Mapping(target = "ratingCount", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "averageStars", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Card transferDtoToCard(CardTransferDto transferDto);
+
     @AfterMapping
     default void afterMappingToModel(@MappingTarget Card card, CreateCardRequestDto requestDto) {
         card.setFullName(new StringBuilder()
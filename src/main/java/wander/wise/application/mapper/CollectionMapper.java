@@ -22,6 +22,7 @@ public interface CollectionMapper {
     CollectionDto toDto(Collection collection);
 
     @Mapping(target = "author", source = "user", qualifiedByName = "userToAuthor")
+    @Mapping(target = "cardsCount", expression = "java(collection.getCards().size())")
     CollectionWithoutCardsDto toCollectionWithoutCardsDto(Collection collection);
 
     @Mapping(target = "cards", source = "cardIds", qualifiedByName = "cardIdsToCards")
@@ -7,7 +7,10 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -48,16 +51,38 @@ public class Card {
     private double latitude;
     @Column(nullable = false)
     private double longitude;
+    @Column(updatable = false)
     private Long likes = 0L;
-    private Long reports = 0L;
     @OneToMany(mappedBy = "card", fetch = FetchType.EAGER)
     private Set<Comment> comments = new HashSet<>();
     private boolean shown = true;
+    @Column(name = "comment_count", insertable = false, updatable = false)
+    private long commentCount;
+    @Column(name = "rating_count", insertable = false, updatable = false)
+    private long ratingCount;
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    private long ratingSum;
+    @Column(name = "average_stars", insertable = false, updatable = false)
+    private Double averageStars;
+    /**
+     * ETag counter, not an optimistic lock: likes and ratings change too
+     * often. Incremented only by bulk updates of the repository
+     */
+    @Column(nullable = false, updatable = false)
+    private long version;
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 
     public Card(Long id) {
         this.id = id;
     }
 
+    @PrePersist
+    @PreUpdate
+    private void updateTimestamp() {
+        updatedAt = LocalDateTime.now();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
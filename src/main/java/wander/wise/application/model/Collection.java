@@ -10,7 +10,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -34,7 +37,7 @@ public class Collection {
     private String name;
     @Column(name = "image_link")
     private String imageLink;
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "collection_card",
             joinColumns = @JoinColumn(name = "collection_id"),
@@ -42,6 +45,21 @@ public class Collection {
     private Set<Card> cards = new HashSet<>();
     @Column(name = "is_public")
     private boolean isPublic = false;
+    /**
+     * ETag counter, not an optimistic lock: likes and saves from several
+     * tabs change the cards concurrently. Incremented only by bulk updates
+     * of the repository
+     */
+    @Column(nullable = false, updatable = false)
+    private long version;
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    private void updateTimestamp() {
+        updatedAt = LocalDateTime.now();
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -55,8 +73,7 @@ public class Collection {
                 && Objects.equals(id, that.id)
                 && Objects.equals(user, that.user)
                 && Objects.equals(name, that.name)
-                && Objects.equals(imageLink, that.imageLink)
-                && Objects.equals(cards, that.cards);
+                && Objects.equals(imageLink, that.imageLink);
     }
 
     @Override
@@ -66,7 +83,6 @@ public class Collection {
                 user,
                 name,
                 imageLink,
-                cards,
                 isPublic);
     }
 }
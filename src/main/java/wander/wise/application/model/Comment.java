@@ -32,6 +32,5 @@ public class Comment {
     @Column(nullable = false)
     private String text;
     private Integer stars = 5;
-    private Long reports = 0L;
     private boolean shown = true;
 }
@@ -0,0 +1,42 @@
+package wander.wise.application.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "reports")
+@Setter
+@Getter
+@RequiredArgsConstructor
+public class Report {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "target_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TargetType targetType;
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+    @Column(name = "reporter_email", nullable = false)
+    private String reporterEmail;
+    @Column(nullable = false)
+    private String text;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    private boolean resolved;
+
+    public enum TargetType {
+        CARD,
+        COMMENT
+    }
+}
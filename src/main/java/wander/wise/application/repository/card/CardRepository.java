@@ -1,11 +1,89 @@
 package wander.wise.application.repository.card;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import wander.wise.application.dto.card.CardLocationDto;
+import wander.wise.application.dto.card.CardNameDto;
+import wander.wise.application.dto.version.EntityVersionDto;
 import wander.wise.application.model.Card;
 
 public interface CardRepository extends
         JpaRepository<Card, Long>,
         JpaSpecificationExecutor<Card> {
     boolean existsByFullName(String name);
+
+    /**
+     * Native on purpose: soft deleted cards still hold their unique full names
+     */
+    @Query(value = "SELECT full_name FROM cards WHERE full_name IN (:fullNames)",
+            nativeQuery = true)
+    Set<String> findExistingFullNames(@Param("fullNames") Collection<String> fullNames);
+
+    /**
+     * Cards are selected by a subquery, so the page sort applies to them
+     */
+    @Query("select card from Card card where card.id in ("
+            + "select collectionCard.id from Collection c join c.cards collectionCard "
+            + "where c.id = :collectionId)")
+    List<Card> findAllByCollectionId(@Param("collectionId") Long collectionId,
+                                     Pageable pageable);
+
+    /**
+     * Serves cached searches, that need only coordinates of shown cards
+     */
+    @Query("select new wander.wise.application.dto.card.CardLocationDto("
+            + "c.id, c.latitude, c.longitude) from Card c where c.id in :ids and c.shown = true")
+    List<CardLocationDto> findShownLocationsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new wander.wise.application.dto.card.CardNameDto(c.id, c.fullName) "
+            + "from Card c where c.id in :ids and c.shown = true")
+    List<CardNameDto> findShownNamesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select new wander.wise.application.dto.version.EntityVersionDto("
+            + "c.id, c.version, c.updatedAt) from Card c where c.id = :id and c.shown = true")
+    Optional<EntityVersionDto> findShownVersionById(@Param("id") Long id);
+
+    /**
+     * Rating aggregates are changed only here and by the reconciliation,
+     * entity saves never overwrite them
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Card c set c.commentCount = c.commentCount + :commentDelta, "
+            + "c.ratingCount = c.ratingCount + :ratingCountDelta, "
+            + "c.ratingSum = c.ratingSum + :ratingSumDelta, "
+            + "c.version = c.version + 1, c.updatedAt = :updatedAt "
+            + "where c.id = :id")
+    void addToRatings(@Param("id") Long id,
+                      @Param("commentDelta") long commentDelta,
+                      @Param("ratingCountDelta") long ratingCountDelta,
+                      @Param("ratingSumDelta") long ratingSumDelta,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Concurrent likes add up instead of overwriting each other
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Card c set c.likes = c.likes + :delta, "
+            + "c.version = c.version + 1, c.updatedAt = :updatedAt "
+            + "where c.id = :id")
+    void addToLikes(@Param("id") Long id,
+                    @Param("delta") long delta,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * For changes saved through the entity, that doesn't write its version
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Card c set c.version = c.version + 1, c.updatedAt = :updatedAt "
+            + "where c.id = :id")
+    void incrementVersion(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -15,7 +15,8 @@ public class CardSpecificationBuilder implements SpecificationBuilder<Card, Card
 
     @Override
     public Specification<Card> build(CardSearchParameters searchParameters) {
-        Specification<Card> spec = Specification.where(null);
+        // Hidden cards are never searched, filtering them in the query lets it use indexes
+        Specification<Card> spec = Specification.where(isShown());
         if (searchParameters.tripTypes() != null
                 && searchParameters.tripTypes().length > 0) {
             spec = spec.and(cardSpecificationProviderManager
@@ -48,4 +49,8 @@ public class CardSpecificationBuilder implements SpecificationBuilder<Card, Card
         }
         return spec;
     }
+
+    private static Specification<Card> isShown() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(root.get("shown"));
+    }
 }
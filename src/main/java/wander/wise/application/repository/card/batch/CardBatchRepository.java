@@ -0,0 +1,29 @@
+package wander.wise.application.repository.card.batch;
+
+import java.util.List;
+import java.util.function.Consumer;
+import wander.wise.application.model.Card;
+
+public interface CardBatchRepository {
+    /**
+     * Inserts all cards in one batch and skips the ones, which full name
+     * is already taken. Bad values fail the batch instead of being saved
+     * truncated
+     *
+     * @return full names of the skipped cards
+     */
+    List<String> saveAllIgnoringDuplicates(List<Card> cards);
+
+    /**
+     * Inserts all cards in one batch. Cards with a taken full name replace
+     * the existing ones, keeping their ids, so comments and reports stay
+     * attached, and are restored if deleted
+     */
+    void upsertAllByFullName(List<Card> cards);
+
+    /**
+     * Streams all not deleted cards without comments from a server-side
+     * cursor, so memory doesn't depend on the number of cards
+     */
+    void forEachCard(Consumer<Card> action);
+}
@@ -0,0 +1,166 @@
+package wander.wise.application.repository.card.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import wander.wise.application.model.Card;
+
+@Repository
+@RequiredArgsConstructor
+public class CardBatchRepositoryImpl implements CardBatchRepository {
+    /**
+     * Not INSERT IGNORE, it would also turn bad values into warnings
+     */
+    private static final String INSERT_SKIPPING_DUPLICATES = "INSERT INTO cards "
+            + "(full_name, author, trip_types, climate, special_requirements, "
+            + "description, why_this_place, image_links, map_link, latitude, "
+            + "longitude, likes, shown, deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false) "
+            + "ON DUPLICATE KEY UPDATE id = id";
+    private static final String SELECT_EXISTING_FULL_NAMES =
+            "SELECT full_name FROM cards WHERE full_name IN (%s)";
+    private static final String UPSERT_BY_FULL_NAME = "INSERT INTO cards "
+            + "(full_name, author, trip_types, climate, special_requirements, "
+            + "description, why_this_place, image_links, map_link, latitude, "
+            + "longitude, likes, shown, deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false) "
+            + "ON DUPLICATE KEY UPDATE author = VALUES(author), "
+            + "trip_types = VALUES(trip_types), climate = VALUES(climate), "
+            + "special_requirements = VALUES(special_requirements), "
+            + "description = VALUES(description), why_this_place = VALUES(why_this_place), "
+            + "image_links = VALUES(image_links), map_link = VALUES(map_link), "
+            + "latitude = VALUES(latitude), longitude = VALUES(longitude), "
+            + "likes = VALUES(likes), shown = VALUES(shown), deleted = false, "
+            + "version = version + 1, updated_at = CURRENT_TIMESTAMP";
+    private static final String SELECT_ALL_CARDS = "SELECT id, full_name, author, trip_types, "
+            + "climate, special_requirements, description, why_this_place, image_links, "
+            + "map_link, latitude, longitude, likes, shown "
+            + "FROM cards WHERE deleted = false ORDER BY id";
+    // Makes MySQL driver stream rows one by one instead of reading all of them
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rewritten batches report SUCCESS_NO_INFO for every row, so skipped
+     * cards are found by their names before the insert. A card with the
+     * same name saved concurrently in between is still skipped by the
+     * unique key, but isn't reported
+     */
+    @Override
+    @Transactional
+    public List<String> saveAllIgnoringDuplicates(List<Card> cards) {
+        if (cards.isEmpty()) {
+            return List.of();
+        }
+        Set<String> existingFullNames = new HashSet<>(jdbcTemplate.queryForList(
+                SELECT_EXISTING_FULL_NAMES.formatted(
+                        String.join(", ", Collections.nCopies(cards.size(), "?"))),
+                String.class,
+                cards.stream().map(Card::getFullName).toArray()));
+        List<Card> newCards = cards.stream()
+                .filter(card -> !existingFullNames.contains(card.getFullName()))
+                .toList();
+        if (!newCards.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    INSERT_SKIPPING_DUPLICATES,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i)
+                                throws SQLException {
+                            fillInsertStatement(statement, newCards.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return newCards.size();
+                        }
+                    });
+        }
+        return cards.stream()
+                .map(Card::getFullName)
+                .filter(existingFullNames::contains)
+                .toList();
+    }
+
+    @Override
+    public void upsertAllByFullName(List<Card> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                UPSERT_BY_FULL_NAME,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i)
+                            throws SQLException {
+                        fillInsertStatement(statement, cards.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return cards.size();
+                    }
+                });
+    }
+
+    @Override
+    public void forEachCard(Consumer<Card> action) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            SELECT_ALL_CARDS,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(STREAMING_FETCH_SIZE);
+                    return statement;
+                },
+                resultSet -> {
+                    action.accept(toCard(resultSet));
+                });
+    }
+
+    private static Card toCard(ResultSet resultSet) throws SQLException {
+        Card card = new Card(resultSet.getLong("id"));
+        card.setFullName(resultSet.getString("full_name"));
+        card.setAuthor(resultSet.getString("author"));
+        card.setTripTypes(resultSet.getString("trip_types"));
+        card.setClimate(resultSet.getString("climate"));
+        card.setSpecialRequirements(resultSet.getString("special_requirements"));
+        card.setDescription(resultSet.getString("description"));
+        card.setWhyThisPlace(resultSet.getString("why_this_place"));
+        card.setImageLinks(resultSet.getString("image_links"));
+        card.setMapLink(resultSet.getString("map_link"));
+        card.setLatitude(resultSet.getDouble("latitude"));
+        card.setLongitude(resultSet.getDouble("longitude"));
+        card.setLikes(resultSet.getLong("likes"));
+        card.setShown(resultSet.getBoolean("shown"));
+        return card;
+    }
+
+    private static void fillInsertStatement(PreparedStatement statement, Card card)
+            throws SQLException {
+        statement.setString(1, card.getFullName());
+        statement.setString(2, card.getAuthor());
+        statement.setString(3, card.getTripTypes());
+        statement.setString(4, card.getClimate());
+        statement.setString(5, card.getSpecialRequirements());
+        statement.setString(6, card.getDescription());
+        statement.setString(7, card.getWhyThisPlace());
+        statement.setString(8, card.getImageLinks());
+        statement.setString(9, card.getMapLink());
+        statement.setDouble(10, card.getLatitude());
+        statement.setDouble(11, card.getLongitude());
+        statement.setLong(12, card.getLikes());
+        statement.setBoolean(13, card.isShown());
+    }
+}
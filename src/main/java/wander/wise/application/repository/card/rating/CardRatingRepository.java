@@ -0,0 +1,13 @@
+package wander.wise.application.repository.card.rating;
+
+public interface CardRatingRepository {
+    long findMaxCardId();
+
+    /**
+     * Recounts rating aggregates of cards with ids in the range from
+     * their not deleted comments and fixes the ones, that drifted
+     *
+     * @return number of fixed cards
+     */
+    int reconcile(long fromId, long toId);
+}
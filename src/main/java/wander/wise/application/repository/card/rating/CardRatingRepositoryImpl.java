@@ -0,0 +1,36 @@
+package wander.wise.application.repository.card.rating;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CardRatingRepositoryImpl implements CardRatingRepository {
+    private static final String SELECT_MAX_CARD_ID = "SELECT COALESCE(MAX(id), 0) FROM cards";
+    private static final String RECONCILE = "UPDATE cards c LEFT JOIN ("
+            + "SELECT card_id, COUNT(*) AS comment_count, COUNT(stars) AS rating_count, "
+            + "COALESCE(SUM(stars), 0) AS rating_sum FROM comments "
+            + "WHERE deleted = false AND card_id BETWEEN ? AND ? GROUP BY card_id) aggregates "
+            + "ON aggregates.card_id = c.id "
+            + "SET c.comment_count = COALESCE(aggregates.comment_count, 0), "
+            + "c.rating_count = COALESCE(aggregates.rating_count, 0), "
+            + "c.rating_sum = COALESCE(aggregates.rating_sum, 0), "
+            + "c.version = c.version + 1, c.updated_at = CURRENT_TIMESTAMP "
+            + "WHERE c.id BETWEEN ? AND ? "
+            + "AND (c.comment_count <> COALESCE(aggregates.comment_count, 0) "
+            + "OR c.rating_count <> COALESCE(aggregates.rating_count, 0) "
+            + "OR c.rating_sum <> COALESCE(aggregates.rating_sum, 0))";
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long findMaxCardId() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_CARD_ID, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    @Override
+    public int reconcile(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE, fromId, toId, fromId, toId);
+    }
+}
@@ -1,9 +1,58 @@
 package wander.wise.application.repository.collection;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import wander.wise.application.dto.collection.CollectionCoverDto;
+import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
+import wander.wise.application.dto.version.CollectionVersionDto;
 import wander.wise.application.model.Collection;
 
 public interface CollectionRepository extends JpaRepository<Collection, Long> {
     List<Collection> findAllByUserEmail(String email);
+
+    @Query("select new wander.wise.application.dto.version.CollectionVersionDto("
+            + "c.id, c.version, c.updatedAt, c.isPublic, u.email, u.version, "
+            + "(select count(card) from Collection counted join counted.cards card "
+            + "where counted.id = c.id)) "
+            + "from Collection c join c.user u where c.id = :id")
+    Optional<CollectionVersionDto> findVersionById(@Param("id") Long id);
+
+    @Query("select new wander.wise.application.dto.collection.CollectionWithoutCardsDto("
+            + "c.id, u.pseudonym, c.name, c.imageLink, c.isPublic, count(card)) "
+            + "from Collection c join c.user u left join c.cards card "
+            + "where u.id = :userId "
+            + "group by c.id, u.pseudonym, c.name, c.imageLink, c.isPublic")
+    List<CollectionWithoutCardsDto> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("select new wander.wise.application.dto.collection.CollectionWithoutCardsDto("
+            + "c.id, u.pseudonym, c.name, c.imageLink, c.isPublic, count(card)) "
+            + "from Collection c join c.user u left join c.cards card "
+            + "where c.id = :id "
+            + "group by c.id, u.pseudonym, c.name, c.imageLink, c.isPublic")
+    Optional<CollectionWithoutCardsDto> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Image links of the card with the lowest id in each collection
+     */
+    @Query("select new wander.wise.application.dto.collection.CollectionCoverDto("
+            + "c.id, card.imageLinks) "
+            + "from Collection c join c.cards card "
+            + "where c.id in :ids and card.id = ("
+            + "select min(firstCard.id) from Collection covered join covered.cards firstCard "
+            + "where covered.id = c.id)")
+    List<CollectionCoverDto> findCoversByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * For every change of the collection or its cards, the entity
+     * doesn't write its version
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Collection c set c.version = c.version + 1, c.updatedAt = :updatedAt "
+            + "where c.id = :id")
+    void incrementVersion(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,9 +1,21 @@
 package wander.wise.application.repository.comment;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import wander.wise.application.dto.comment.UserCommentDto;
 import wander.wise.application.model.Comment;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> getAllByUserEmail(String email);
+    /**
+     * Newest first, ordering is fixed, so pageable sort must be empty
+     */
+    @Query("select new wander.wise.application.dto.comment.UserCommentDto("
+            + "c.id, c.timeStamp, c.text, c.stars, card.id, card.fullName) "
+            + "from Comment c join c.card card "
+            + "where c.user.id = :userId "
+            + "order by c.timeStamp desc, c.id desc")
+    List<UserCommentDto> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package wander.wise.application.repository.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import wander.wise.application.dto.card.SearchStatsDto;
+import wander.wise.application.service.card.event.SearchEvent;
+
+public interface SearchEventRepository {
+    void saveAll(List<SearchEvent> events);
+
+    /**
+     * Groups searches made since the given time by start location,
+     * travel distance and trip types, most frequent first
+     */
+    List<SearchStatsDto> findStatsSince(LocalDateTime since, int limit);
+}
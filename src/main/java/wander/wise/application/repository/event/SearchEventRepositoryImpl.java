@@ -0,0 +1,88 @@
+package wander.wise.application.repository.event;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import wander.wise.application.dto.card.SearchStatsDto;
+import wander.wise.application.service.card.event.SearchEvent;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchEventRepositoryImpl implements SearchEventRepository {
+    private static final String INSERT_EVENT = "INSERT INTO search_events "
+            + "(created_at, start_location, trip_types, climate, special_requirements, "
+            + "travel_distance, author, results_count, cache_hit, generation_ran, "
+            + "resolve_millis, find_millis, geocode_millis, total_millis) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_STATS = "SELECT start_location, travel_distance, "
+            + "trip_types, COUNT(*) AS searches, "
+            + "AVG(results_count) AS avg_results_count, "
+            + "AVG(CASE WHEN generation_ran THEN 1 ELSE 0 END) AS generation_rate, "
+            + "AVG(CASE WHEN cache_hit THEN 1 ELSE 0 END) AS cache_hit_rate, "
+            + "AVG(total_millis) AS avg_total_millis "
+            + "FROM search_events "
+            + "WHERE created_at >= ? "
+            + "GROUP BY start_location, travel_distance, trip_types "
+            + "ORDER BY searches DESC "
+            + "LIMIT ?";
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(List<SearchEvent> events) {
+        jdbcTemplate.batchUpdate(
+                INSERT_EVENT,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i)
+                            throws SQLException {
+                        fillInsertStatement(statement, events.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                });
+    }
+
+    @Override
+    public List<SearchStatsDto> findStatsSince(LocalDateTime since, int limit) {
+        return jdbcTemplate.query(
+                SELECT_STATS,
+                (resultSet, rowNum) -> new SearchStatsDto(
+                        resultSet.getString("start_location"),
+                        resultSet.getString("travel_distance"),
+                        resultSet.getString("trip_types"),
+                        resultSet.getLong("searches"),
+                        resultSet.getDouble("avg_results_count"),
+                        resultSet.getDouble("generation_rate"),
+                        resultSet.getDouble("cache_hit_rate"),
+                        resultSet.getDouble("avg_total_millis")),
+                Timestamp.valueOf(since),
+                limit);
+    }
+
+    private static void fillInsertStatement(PreparedStatement statement, SearchEvent event)
+            throws SQLException {
+        statement.setTimestamp(1, Timestamp.valueOf(event.createdAt()));
+        statement.setString(2, event.startLocation());
+        statement.setString(3, event.tripTypes());
+        statement.setString(4, event.climate());
+        statement.setString(5, event.specialRequirements());
+        statement.setString(6, event.travelDistance());
+        statement.setString(7, event.author());
+        statement.setInt(8, event.resultsCount());
+        statement.setBoolean(9, event.cacheHit());
+        statement.setBoolean(10, event.generationRan());
+        statement.setLong(11, event.latencies().resolveMillis());
+        statement.setLong(12, event.latencies().findMillis());
+        statement.setLong(13, event.latencies().geocodeMillis());
+        statement.setLong(14, event.latencies().totalMillis());
+    }
+}
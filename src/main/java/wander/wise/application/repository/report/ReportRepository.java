@@ -0,0 +1,39 @@
+package wander.wise.application.repository.report;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import wander.wise.application.dto.report.ReportSummaryDto;
+import wander.wise.application.model.Report;
+
+public interface ReportRepository extends JpaRepository<Report, Long> {
+    /**
+     * Repeated reports of one user count once
+     */
+    @Query("select count(distinct r.reporterEmail) from Report r "
+            + "where r.targetType = :targetType and r.targetId = :targetId "
+            + "and r.resolved = false")
+    long countUnresolvedReporters(@Param("targetType") Report.TargetType targetType,
+                                  @Param("targetId") Long targetId);
+
+    @Query("select new wander.wise.application.dto.report.ReportSummaryDto("
+            + "r.targetType, r.targetId, count(r), count(distinct r.reporterEmail), "
+            + "min(r.createdAt), max(r.createdAt)) "
+            + "from Report r where r.resolved = false and r.targetType = :targetType "
+            + "group by r.targetType, r.targetId "
+            + "order by count(distinct r.reporterEmail) desc, count(r) desc, "
+            + "max(r.createdAt) desc")
+    List<ReportSummaryDto> findUnresolvedSummaries(
+            @Param("targetType") Report.TargetType targetType,
+            Pageable pageable);
+
+    @Modifying
+    @Query("update Report r set r.resolved = true "
+            + "where r.targetType = :targetType and r.targetId = :targetId "
+            + "and r.resolved = false")
+    int resolveAll(@Param("targetType") Report.TargetType targetType,
+                   @Param("targetId") Long targetId);
+}
@@ -0,0 +1,16 @@
+package wander.wise.application.repository.trending;
+
+import java.util.List;
+import wander.wise.application.service.card.trending.TrendingScore;
+
+public interface TrendingScoreRepository {
+    /**
+     * Replaces the previous snapshot with the given scores
+     */
+    void replaceAll(List<TrendingScore> scores);
+
+    /**
+     * Scores of shown not deleted cards with their full names
+     */
+    List<TrendingScore> findAllOfShownCards();
+}
@@ -0,0 +1,49 @@
+package wander.wise.application.repository.trending;
+
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import wander.wise.application.service.card.trending.TrendingScore;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingScoreRepositoryImpl implements TrendingScoreRepository {
+    private static final String DELETE_ALL = "DELETE FROM trending_scores";
+    private static final String INSERT = "INSERT INTO trending_scores "
+            + "(card_id, score, scored_at) VALUES (?, ?, ?)";
+    private static final String SELECT_OF_SHOWN_CARDS = "SELECT t.card_id, c.full_name, "
+            + "t.score, t.scored_at FROM trending_scores t "
+            + "JOIN cards c ON c.id = t.card_id "
+            + "WHERE c.deleted = false AND c.shown = true";
+    private static final int BATCH_SIZE = 1000;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void replaceAll(List<TrendingScore> scores) {
+        jdbcTemplate.update(DELETE_ALL);
+        jdbcTemplate.batchUpdate(
+                INSERT,
+                scores,
+                BATCH_SIZE,
+                (statement, score) -> {
+                    statement.setLong(1, score.cardId());
+                    statement.setDouble(2, score.score());
+                    statement.setTimestamp(3, new Timestamp(score.scoredAtMillis()));
+                });
+    }
+
+    @Override
+    public List<TrendingScore> findAllOfShownCards() {
+        return jdbcTemplate.query(
+                SELECT_OF_SHOWN_CARDS,
+                (resultSet, rowNum) -> new TrendingScore(
+                        resultSet.getLong("card_id"),
+                        resultSet.getString("full_name"),
+                        resultSet.getDouble("score"),
+                        resultSet.getTimestamp("scored_at").getTime()));
+    }
+}
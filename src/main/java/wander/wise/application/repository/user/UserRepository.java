@@ -2,6 +2,9 @@ package wander.wise.application.repository.user;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import wander.wise.application.dto.version.EntityVersionDto;
 import wander.wise.application.model.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +13,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByPseudonym(String pseudonym);
 
     Optional<User> findByEmail(String email);
+
+    @Query("select new wander.wise.application.dto.version.EntityVersionDto("
+            + "u.id, u.version, u.updatedAt) from User u where u.id = :id")
+    Optional<EntityVersionDto> findVersionById(@Param("id") Long id);
 }
@@ -1,9 +1,22 @@
 package wander.wise.application.repository.user.pseudonym;
 
+import java.util.List;
+
 public interface PseudonymRepository {
-    String getAdjective();
+    List<String> findAllAdjectives();
+
+    List<String> findAllColors();
+
+    List<String> findAllAnimals();
+
+    /**
+     * Queries of users skip the soft delete filter, deleted users
+     * still hold their pseudonyms in the unique index. Pages are
+     * read by the unique index, starting after the given pseudonym
+     */
+    List<String> findPseudonymsIncludingDeletedAfter(String after, int limit);
 
-    String getColor();
+    long countUsersIncludingDeleted();
 
-    String getAnimal();
+    long countByPseudonymIncludingDeleted(String pseudonym);
 }
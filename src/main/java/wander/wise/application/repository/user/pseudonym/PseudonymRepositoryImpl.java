@@ -1,47 +1,66 @@
 package wander.wise.application.repository.user.pseudonym;
 
 import jakarta.persistence.EntityManager;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Random;
-
 @Repository
 @RequiredArgsConstructor
 public class PseudonymRepositoryImpl implements PseudonymRepository {
-    private static final String GET_ADJECTIVE = "SELECT name FROM username_adjectives where id = ";
-    private static final String GET_COLOR = "SELECT name FROM username_colors where id = ";
-    private static final String GET_ANIMAL = "SELECT name FROM username_animals where id = ";
-    private static final Random RANDOM = new Random();
+    private static final String GET_ADJECTIVES =
+            "SELECT name FROM username_adjectives ORDER BY id";
+    private static final String GET_COLORS = "SELECT name FROM username_colors ORDER BY id";
+    private static final String GET_ANIMALS = "SELECT name FROM username_animals ORDER BY id";
+    private static final String GET_PSEUDONYMS_AFTER = "SELECT pseudonym FROM users "
+            + "WHERE pseudonym > :after ORDER BY pseudonym LIMIT :limit";
+    private static final String COUNT_USERS = "SELECT COUNT(*) FROM users";
+    private static final String COUNT_BY_PSEUDONYM =
+            "SELECT COUNT(*) FROM users WHERE pseudonym = :pseudonym";
     private final EntityManager entityManager;
 
     @Override
-    public String getAdjective() {
-        return (String) entityManager
-                .createNativeQuery(
-                        GET_ADJECTIVE
-                                + RANDOM.nextInt(1, 100),
-                        String.class)
-                .getSingleResult();
+    public List<String> findAllAdjectives() {
+        return findAllNames(GET_ADJECTIVES);
+    }
+
+    @Override
+    public List<String> findAllColors() {
+        return findAllNames(GET_COLORS);
+    }
+
+    @Override
+    public List<String> findAllAnimals() {
+        return findAllNames(GET_ANIMALS);
+    }
+
+    @Override
+    public List<String> findPseudonymsIncludingDeletedAfter(String after, int limit) {
+        return entityManager
+                .createNativeQuery(GET_PSEUDONYMS_AFTER, String.class)
+                .setParameter("after", after)
+                .setParameter("limit", limit)
+                .getResultList();
     }
 
     @Override
-    public String getColor() {
-        return (String) entityManager
-                .createNativeQuery(
-                        GET_COLOR
-                                + RANDOM.nextInt(1, 100),
-                        String.class)
-                .getSingleResult();
+    public long countUsersIncludingDeleted() {
+        return ((Number) entityManager
+                .createNativeQuery(COUNT_USERS)
+                .getSingleResult()).longValue();
     }
 
     @Override
-    public String getAnimal() {
-        return (String) entityManager
-                .createNativeQuery(
-                        GET_ANIMAL
-                                + RANDOM.nextInt(1, 100),
-                        String.class)
-                .getSingleResult();
+    public long countByPseudonymIncludingDeleted(String pseudonym) {
+        return ((Number) entityManager
+                .createNativeQuery(COUNT_BY_PSEUDONYM)
+                .setParameter("pseudonym", pseudonym)
+                .getSingleResult()).longValue();
+    }
+
+    private List<String> findAllNames(String query) {
+        return entityManager
+                .createNativeQuery(query, String.class)
+                .getResultList();
     }
 }
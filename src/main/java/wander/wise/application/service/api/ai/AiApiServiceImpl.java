@@ -5,18 +5,21 @@ import static wander.wise.application.constants.AiApiServiceConstants.FULL_NAME_
 import static wander.wise.application.constants.AiApiServiceConstants.FULL_NAME_RULES;
 import static wander.wise.application.constants.AiApiServiceConstants.FULL_NAME_TEMPLATE;
 import static wander.wise.application.constants.AiApiServiceConstants.LIST_FORMATING_RULES;
+import static wander.wise.application.constants.AiApiServiceConstants.LOCATIONS_TO_EXCLUDE_SAMPLE_SIZE;
 import static wander.wise.application.constants.AiApiServiceConstants.LOCATION_NAMES_FIELD_FORMAT;
 import static wander.wise.application.constants.AiApiServiceConstants.NON_EXISTING_RESTRICT;
 import static wander.wise.application.constants.AiApiServiceConstants.SPECIAL_REQUIREMENTS_LIST;
 import static wander.wise.application.constants.AiApiServiceConstants.SPECIFIC_LOCATION_EXAMPLES;
 import static wander.wise.application.constants.AiApiServiceConstants.TOTAL_REQUIRED_RESPONSES_AMOUNT;
 import static wander.wise.application.constants.AiApiServiceConstants.TRIP_TYPES_LIST;
+import static wander.wise.application.constants.GlobalConstants.DIVIDER;
 import static wander.wise.application.constants.GlobalConstants.JSON_MAPPER;
 import static wander.wise.application.constants.GlobalConstants.SEPARATOR;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,17 +32,22 @@ import wander.wise.application.dto.ai.AiResponseDto;
 import wander.wise.application.dto.ai.LocationListDto;
 import wander.wise.application.dto.card.CardSearchParameters;
 import wander.wise.application.exception.custom.AiServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
 
 @Service
 @RequiredArgsConstructor
 public class AiApiServiceImpl implements AiApiService {
+    private static final String METRICS_SERVICE = "openai";
     private final ChatClient chatClient;
+    private final ApiCallMetrics apiCallMetrics;
 
     @Override
     public List<AiResponseDto> getAiResponses(
             CardSearchParameters searchParameters,
             Map<String, List<String>> locationsToExcludeAndTypeMap) {
         List<AiResponseDto> aiResponses = new ArrayList<>();
+        Set<String> excludedLocationsIndex = getExcludedLocationsIndex(
+                locationsToExcludeAndTypeMap);
         String totalLocationsToExclude = getTotalLocationsToExclude(locationsToExcludeAndTypeMap);
         locationsToExcludeAndTypeMap.keySet().forEach(tripType -> {
             String locationsToExclude = getLocationsToExclude(
@@ -50,7 +58,8 @@ public class AiApiServiceImpl implements AiApiService {
                     locationsToExcludeAndTypeMap,
                     tripType,
                     locationsToExclude,
-                    totalLocationsToExclude);
+                    totalLocationsToExclude,
+                    excludedLocationsIndex);
             if (generatedNamesByType.size() > 0) {
                 List<AiResponseDto> aiResponsesByType = initializeAiResponses(
                         searchParameters,
@@ -72,7 +81,7 @@ public class AiApiServiceImpl implements AiApiService {
     public CardSearchParameters defineRegion(CardSearchParameters searchParameters) {
         String paramsJson = objectToJson(searchParameters);
         String defineRegionPrompt = getDefineRegionPrompt(searchParameters, paramsJson);
-        String response = chatClient.call(defineRegionPrompt);
+        String response = call("region", defineRegionPrompt);
         return (CardSearchParameters) jsonToObject(response, CardSearchParameters.class);
     }
 
@@ -80,18 +89,21 @@ public class AiApiServiceImpl implements AiApiService {
     public CardSearchParameters defineContinent(CardSearchParameters searchParameters) {
         String paramsJson = objectToJson(searchParameters);
         String detectDistancePrompt = getDefineContinentPrompt(searchParameters, paramsJson);
-        String response = chatClient.call(detectDistancePrompt);
+        String response = call("continent", detectDistancePrompt);
         return (CardSearchParameters) jsonToObject(response, CardSearchParameters.class);
     }
 
     /**
-     * Get checked and formated list of locations
+     * Get checked and formated list of locations. Only a bounded sample
+     * of known locations is sent to the model, so the rest of them are
+     * filtered out here against the local index
      */
     private Set<String> getLocationList(
             CardSearchParameters searchParameters,
             Map<String, List<String>> locationsToExcludeAndTypeMap,
             String tripType, String locationsToExclude,
-            String totalLocationsToExclude) {
+            String totalLocationsToExclude,
+            Set<String> excludedLocationsIndex) {
         return getLocationListDto(
                 searchParameters,
                 locationsToExclude,
@@ -100,7 +112,7 @@ public class AiApiServiceImpl implements AiApiService {
                 getResponsesAmount(locationsToExcludeAndTypeMap))
                 .locationNames()
                 .stream()
-                .filter(name -> !totalLocationsToExclude.contains(name))
+                .filter(name -> !excludedLocationsIndex.contains(getExcludeKey(name)))
                 .collect(Collectors.toSet());
     }
 
@@ -155,7 +167,7 @@ public class AiApiServiceImpl implements AiApiService {
                 locationsToExclude,
                 tripType,
                 responsesAmount);
-        String locationList = chatClient.call(locationListPrompt);
+        String locationList = call("list", locationListPrompt);
         locationList = removeDuplicates(
                 locationList,
                 totalLocationsToExclude);
@@ -167,19 +179,23 @@ public class AiApiServiceImpl implements AiApiService {
         String removeDuplicatesPrompt = getRemoveDuplicatesPrompt(
                 locationList,
                 totalLocationsToExclude);
-        locationList = chatClient.call(removeDuplicatesPrompt);
+        locationList = call("removeDuplicates", removeDuplicatesPrompt);
         return locationList;
     }
 
     private String check(String locationList) {
         String checkWhereIsPrompt = getCheckPrompt(locationList);
-        locationList = chatClient.call(checkWhereIsPrompt);
+        locationList = call("check", checkWhereIsPrompt);
         return locationList;
     }
 
+    private String call(String promptKind, String prompt) {
+        return apiCallMetrics.record(METRICS_SERVICE, promptKind, () -> chatClient.call(prompt));
+    }
+
     private AiResponseDto generateLocationDetails(String name) {
         String locationDetailsPrompt = getLocationDetailsPrompt(name);
-        String locationDetails = chatClient.call(locationDetailsPrompt);
+        String locationDetails = call("details", locationDetailsPrompt);
         return (AiResponseDto) jsonToObject(locationDetails, AiResponseDto.class);
     }
 
@@ -361,16 +377,48 @@ public class AiApiServiceImpl implements AiApiService {
 
     private static String getTotalLocationsToExclude(
             Map<String, List<String>> locationsToExcludeAndTypeMap) {
-        return locationsToExcludeAndTypeMap.values()
+        return String.join(", ", getSample(locationsToExcludeAndTypeMap.values()
                 .stream()
                 .flatMap(List::stream)
-                .collect(Collectors.joining(", "));
+                .distinct()
+                .toList()));
     }
 
     private static String getLocationsToExclude(
             Map<String, List<String>> locationsToExcludeAndTypeMap,
             String tripType) {
-        return locationsToExcludeAndTypeMap.get(tripType).toString();
+        return getSample(locationsToExcludeAndTypeMap.get(tripType)).toString();
+    }
+
+    private static Set<String> getExcludedLocationsIndex(
+            Map<String, List<String>> locationsToExcludeAndTypeMap) {
+        return locationsToExcludeAndTypeMap.values()
+                .stream()
+                .flatMap(List::stream)
+                .map(AiApiServiceImpl::getExcludeKey)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<String> getSample(List<String> locations) {
+        if (locations.size() <= LOCATIONS_TO_EXCLUDE_SAMPLE_SIZE) {
+            return locations;
+        }
+        List<String> shuffledLocations = new ArrayList<>(locations);
+        Collections.shuffle(shuffledLocations);
+        return shuffledLocations.subList(0, LOCATIONS_TO_EXCLUDE_SAMPLE_SIZE);
+    }
+
+    /**
+     * Brings both "Location name (Populated locality)" and
+     * "Location name|Populated locality|Region|Country|Continent"
+     * to the same comparable form
+     */
+    private static String getExcludeKey(String locationName) {
+        String[] nameArray = locationName.split(DIVIDER);
+        if (nameArray.length > 1) {
+            locationName = nameArray[0].trim() + " (" + nameArray[1].trim() + ")";
+        }
+        return locationName.trim().toLowerCase();
     }
 
     private static String objectToJson(Object object) {
@@ -1,17 +1,22 @@
 package wander.wise.application.service.api.email;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import wander.wise.application.exception.custom.EmailServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
 
 @Service
+@Profile("!fakes")
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
     public static final String SERVICE_EMAIL = "impero44@gmail.com";
+    private static final String METRICS_SERVICE = "smtp";
     private final JavaMailSender javaMailSender;
+    private final ApiCallMetrics apiCallMetrics;
 
     @Override
     public void sendEmail(String toEmail, String subject, String body) {
@@ -21,7 +26,7 @@ public class EmailServiceImpl implements EmailService {
         message.setText(body);
         message.setSubject(subject);
         try {
-            javaMailSender.send(message);
+            apiCallMetrics.record(METRICS_SERVICE, "send", () -> javaMailSender.send(message));
         } catch (MailException e) {
             throw new EmailServiceException("Can't send message: " + message, e);
         }
@@ -0,0 +1,47 @@
+package wander.wise.application.service.api.fake;
+
+import java.util.Random;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delays fake calls by normally distributed latency and fails a share of them.
+ * Both are configured per service with fakes.{service}.latency-mean-ms,
+ * fakes.{service}.latency-deviation-ms and fakes.{service}.error-rate
+ */
+@Component
+@Profile("fakes")
+public class FakeCalls {
+    private final Environment environment;
+    private final Random random;
+
+    public FakeCalls(Environment environment, @Value("${fakes.seed:42}") long seed) {
+        this.environment = environment;
+        this.random = new Random(seed);
+    }
+
+    public void simulate(String service, Function<String, RuntimeException> errorFactory) {
+        long latencyMean = getProperty(service, "latency-mean-ms", Long.class, 0L);
+        long latencyDeviation = getProperty(service, "latency-deviation-ms", Long.class, 0L);
+        double errorRate = getProperty(service, "error-rate", Double.class, 0.0);
+        long latency = Math.max(0, Math.round(latencyMean
+                + random.nextGaussian() * latencyDeviation));
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (random.nextDouble() < errorRate) {
+            throw errorFactory.apply("Simulated " + service + " failure");
+        }
+    }
+
+    private <T> T getProperty(String service, String name, Class<T> type, T defaultValue) {
+        return environment.getProperty("fakes." + service + "." + name, type, defaultValue);
+    }
+}
@@ -0,0 +1,146 @@
+package wander.wise.application.service.api.fake;
+
+import static wander.wise.application.constants.GlobalConstants.JSON_MAPPER;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.ai.AiResponseDto;
+import wander.wise.application.dto.ai.LocationListDto;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.exception.custom.AiServiceException;
+
+/**
+ * Answers prompts of AiApiServiceImpl with well-formed json. Locations are
+ * derived from the prompt hash, so the same prompt gives the same answer
+ */
+@Component
+@Primary
+@Profile("fakes")
+@RequiredArgsConstructor
+public class FakeChatClient implements ChatClient {
+    private static final String SERVICE = "openai";
+    private static final Pattern LOCATIONS_AMOUNT = Pattern.compile("Find me (\\d+) locations");
+    private static final Pattern TRAVEL_DISTANCE =
+            Pattern.compile("Locations must be within: (.+?)\\. Collect");
+    private static final Pattern START_LOCATION = Pattern.compile("I am in (.+)");
+    private static final Pattern CLIMATE = Pattern.compile("Climate: ([^,\\n\\r]+)");
+    private static final Pattern LOCATION_LIST =
+            Pattern.compile("\\{\\s*\"locationNames\".*?}", Pattern.DOTALL);
+    private static final Pattern PARAMETERS_JSON =
+            Pattern.compile("search parameters: (\\{.*})", Pattern.MULTILINE);
+    private static final String DEFAULT_CLIMATE = "Temperate";
+    private final Map<String, String> climateByLocation = new ConcurrentHashMap<>();
+    private final FakeCalls fakeCalls;
+    @Value("${fakes.openai.continent:Europe}")
+    private String continent;
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        fakeCalls.simulate(SERVICE, error -> new AiServiceException(error, null));
+        String message = prompt.getContents();
+        return new ChatResponse(List.of(new Generation(answer(message))));
+    }
+
+    private String answer(String message) {
+        if (message.startsWith("I am in ")) {
+            return generateLocationList(message);
+        }
+        if (message.startsWith("I want to know more about this location: ")) {
+            return generateLocationDetails(message);
+        }
+        if (message.startsWith("I have this json object with search parameters: ")) {
+            return defineTravelDistance(message);
+        }
+        Matcher locationList = LOCATION_LIST.matcher(message);
+        if (locationList.find()) {
+            return locationList.group();
+        }
+        throw new AiServiceException(
+                "Fake chat client doesn't know this prompt: " + message, null);
+    }
+
+    private String generateLocationList(String message) {
+        int amount = Integer.parseInt(find(LOCATIONS_AMOUNT, message, "10"));
+        String travelDistance = find(TRAVEL_DISTANCE, message, continent);
+        String[] startLocation = find(START_LOCATION, message, "Kyiv, Ukraine").split(",");
+        String city = startLocation[0].trim();
+        String country = startLocation.length > 1 ? startLocation[1].trim() : city;
+        String climate = findClimate(message);
+        int seed = Math.abs(message.hashCode() % 100_000);
+        List<String> locationNames = IntStream.range(0, amount)
+                .mapToObj(i -> String.join("|",
+                        "Fake place " + (seed + i),
+                        city,
+                        travelDistance,
+                        country,
+                        continent))
+                .toList();
+        locationNames.forEach(name -> climateByLocation.put(name, climate));
+        return toJson(new LocationListDto(locationNames.stream().collect(Collectors.toSet())));
+    }
+
+    private String generateLocationDetails(String message) {
+        String fullName = message.substring(message.indexOf(": ") + 2).lines()
+                .findFirst()
+                .orElse("")
+                .trim();
+        String name = fullName.split("\\|")[0];
+        return toJson(new AiResponseDto(
+                fullName,
+                "Culture|Nature",
+                Objects.requireNonNullElse(climateByLocation.remove(fullName), DEFAULT_CLIMATE),
+                "With kids",
+                name + " is a generated location for local load tests.",
+                "Quiet streets|Local food|Easy to reach"));
+    }
+
+    private String defineTravelDistance(String message) {
+        try {
+            CardSearchParameters searchParameters = JSON_MAPPER.readValue(
+                    find(PARAMETERS_JSON, message, "{}"), CardSearchParameters.class);
+            String travelDistance = message.contains("Find on what continent")
+                    ? continent
+                    : searchParameters.startLocation().split(",")[0].trim() + " region";
+            return toJson(searchParameters.setTravelDistance(travelDistance));
+        } catch (JsonProcessingException e) {
+            throw new AiServiceException("Fake chat client can't read search parameters", e);
+        }
+    }
+
+    /**
+     * Empty climate list leaves "Climate: " followed by the next field
+     */
+    private static String findClimate(String message) {
+        String climate = find(CLIMATE, message, DEFAULT_CLIMATE).trim();
+        return climate.contains(":") ? DEFAULT_CLIMATE : climate;
+    }
+
+    private static String find(Pattern pattern, String message, String defaultValue) {
+        Matcher matcher = pattern.matcher(message);
+        return matcher.find() ? matcher.group(1) : defaultValue;
+    }
+
+    private static String toJson(Object object) {
+        try {
+            return JSON_MAPPER.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new AiServiceException("Fake chat client can't write json", e);
+        }
+    }
+}
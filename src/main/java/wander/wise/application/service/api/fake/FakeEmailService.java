@@ -0,0 +1,31 @@
+package wander.wise.application.service.api.fake;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import wander.wise.application.exception.custom.EmailServiceException;
+import wander.wise.application.service.api.email.EmailService;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
+
+/**
+ * Logs emails instead of sending them, so confirmation codes
+ * can be taken from the log during local runs
+ */
+@Slf4j
+@Service
+@Profile("fakes")
+@RequiredArgsConstructor
+public class FakeEmailService implements EmailService {
+    private static final String SERVICE = "smtp";
+    private final FakeCalls fakeCalls;
+    private final ApiCallMetrics apiCallMetrics;
+
+    @Override
+    public void sendEmail(String toEmail, String subject, String body) {
+        apiCallMetrics.record(SERVICE, "send", () -> {
+            fakeCalls.simulate(SERVICE, error -> new EmailServiceException(error, null));
+            log.info("Fake email to {}: {} - {}", toEmail, subject, body);
+        });
+    }
+}
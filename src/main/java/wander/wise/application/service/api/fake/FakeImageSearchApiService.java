@@ -0,0 +1,31 @@
+package wander.wise.application.service.api.fake;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import wander.wise.application.exception.custom.ImageSearchServiceException;
+import wander.wise.application.service.api.images.ImageSearchApiService;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
+
+@Service
+@Profile("fakes")
+@RequiredArgsConstructor
+public class FakeImageSearchApiService implements ImageSearchApiService {
+    private static final String SERVICE = "bing";
+    private static final int IMAGES_AMOUNT = 5;
+    private final FakeCalls fakeCalls;
+    private final ApiCallMetrics apiCallMetrics;
+
+    @Override
+    public String getImageLinks(String searchKey) {
+        return apiCallMetrics.record(SERVICE, "images", () -> {
+            fakeCalls.simulate(SERVICE, error -> new ImageSearchServiceException(error, null));
+            int hash = Math.abs(searchKey.hashCode() % 100_000);
+            return IntStream.range(0, IMAGES_AMOUNT)
+                    .mapToObj(i -> "https://picsum.photos/seed/" + hash + "-" + i + "/1280/720")
+                    .collect(Collectors.joining("|"));
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package wander.wise.application.service.api.fake;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import wander.wise.application.dto.maps.LocationDto;
+import wander.wise.application.exception.custom.MapsServiceException;
+import wander.wise.application.service.api.maps.MapsApiService;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
+
+/**
+ * Places every location at coordinates derived from its name
+ */
+@Service
+@Profile("fakes")
+@RequiredArgsConstructor
+public class FakeMapsApiService implements MapsApiService {
+    private static final String SERVICE = "google-maps";
+    private static final double SCALE = Math.pow(10, 6);
+    private final FakeCalls fakeCalls;
+    private final ApiCallMetrics apiCallMetrics;
+
+    @Override
+    public LocationDto getMapsResponseByLocationName(String locationName) {
+        return apiCallMetrics.record(SERVICE, "geocoding", () -> {
+            fakeCalls.simulate(SERVICE, error -> new MapsServiceException(error, null));
+            String formattedKey = locationName.replaceAll(" ", "+");
+            return getLocation("https://maps.google.com/maps?q=" + formattedKey, locationName);
+        });
+    }
+
+    @Override
+    public LocationDto getMapsResponseByUsersUrl(String usersUrl) {
+        return apiCallMetrics.record(SERVICE, "redirect", () -> {
+            fakeCalls.simulate(SERVICE, error -> new MapsServiceException(error, null));
+            return getLocation(usersUrl, usersUrl);
+        });
+    }
+
+    private static LocationDto getLocation(String mapLink, String key) {
+        int hash = key.hashCode();
+        double latitude = Math.floor((-60 + Math.floorMod(hash, 130_000) / 1000.0) * SCALE)
+                / SCALE;
+        double longitude = Math.floor((-180 + Math.floorMod(hash >>> 7, 360_000) / 1000.0)
+                * SCALE) / SCALE;
+        return new LocationDto(mapLink, latitude, longitude);
+    }
+}
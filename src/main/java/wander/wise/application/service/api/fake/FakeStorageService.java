@@ -0,0 +1,39 @@
+package wander.wise.application.service.api.fake;
+
+import static wander.wise.application.service.api.storage.StorageServiceImpl.BASE_URL;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import wander.wise.application.exception.custom.StorageServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
+import wander.wise.application.service.api.storage.StorageService;
+
+/**
+ * Returns links in the same format as the cloud storage without uploading files
+ */
+@Service
+@Profile("fakes")
+@RequiredArgsConstructor
+public class FakeStorageService implements StorageService {
+    private static final String SERVICE = "s3";
+    private final FakeCalls fakeCalls;
+    private final ApiCallMetrics apiCallMetrics;
+
+    @Override
+    public String uploadFile(MultipartFile file) {
+        return apiCallMetrics.record(SERVICE, "put", () -> {
+            fakeCalls.simulate(SERVICE, error -> new StorageServiceException(error, null));
+            return BASE_URL + System.currentTimeMillis() + "_" + file.getOriginalFilename();
+        });
+    }
+
+    @Override
+    public String deleteFile(String fileName) {
+        return apiCallMetrics.record(SERVICE, "delete", () -> {
+            fakeCalls.simulate(SERVICE, error -> new StorageServiceException(error, null));
+            return fileName + " removed";
+        });
+    }
+}
@@ -16,11 +16,14 @@ import java.util.Map;
 import java.util.Scanner;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import wander.wise.application.config.ApisConfigProperties;
 import wander.wise.application.exception.custom.ImageSearchServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
 
 @Service
+@Profile("!fakes")
 @RequiredArgsConstructor
 public class ImageSearchApiServiceImpl implements ImageSearchApiService {
     private static final String ASPECT = "Wide";
@@ -29,7 +32,9 @@ public class ImageSearchApiServiceImpl implements ImageSearchApiService {
     private static final String MIN_HEIGHT = "720";
     private static final String MIN_WIDTH = "1280";
     private static final String PATH = "/v7.0/images/search";
+    private static final String METRICS_SERVICE = "bing";
     private final ApisConfigProperties apisConfigProperties;
+    private final ApiCallMetrics apiCallMetrics;
 
     @Override
     public String getImageLinks(String searchKey) {
@@ -37,12 +42,13 @@ public class ImageSearchApiServiceImpl implements ImageSearchApiService {
         String queryParams = buildQueryParams(searchKey);
         HttpURLConnection connection = getHttpUrlConnection(queryParams);
         // receive JSON body
-        JsonObject jsonObject = getImagesJsonObject(connection);
+        JsonObject jsonObject = apiCallMetrics.record(METRICS_SERVICE, "images",
+                () -> getImagesJsonObject(connection));
         // get the first 10 image results from the JSON object
         return getImageLinksFromJsonBody(jsonObject);
     }
 
-    private static String getImageLinksFromJsonBody(JsonObject jsonObject) {
+    static String getImageLinksFromJsonBody(JsonObject jsonObject) {
         JsonArray results = jsonObject.getAsJsonArray("value");
         StringBuilder builder = new StringBuilder();
         for (int i = 0; i < 5 && i < results.size(); i++) {
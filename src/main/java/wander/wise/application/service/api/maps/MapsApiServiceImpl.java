@@ -4,27 +4,33 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import wander.wise.application.config.ApisConfigProperties;
 import wander.wise.application.dto.maps.LocationDto;
 import wander.wise.application.exception.custom.MapsServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
 
 import static wander.wise.application.constants.GlobalConstants.JSON_MAPPER;
 
 @Service
+@Profile("!fakes")
 @RequiredArgsConstructor
 public class MapsApiServiceImpl implements MapsApiService {
     private static final String GEOCODING_API_URL = "https://maps.googleapis.com/maps/api/geocode/json";
     private static final double SCALE = Math.pow(10, 6);
+    private static final String METRICS_SERVICE = "google-maps";
     private final ApisConfigProperties apisConfigProperties;
+    private final ApiCallMetrics apiCallMetrics;
 
     @Override
     public LocationDto getMapsResponseByLocationName(String searchKey) {
@@ -41,8 +47,9 @@ public class MapsApiServiceImpl implements MapsApiService {
         double latitude = 0;
         double longitude = 0;
         try {
-            longUrl = getRedirectUrl(usersUrl);
-        } catch (IOException e) {
+            longUrl = apiCallMetrics.record(METRICS_SERVICE, "redirect",
+                    () -> getRedirectUrl(usersUrl));
+        } catch (UncheckedIOException e) {
             throw new MapsServiceException("Can't parse long url from the short one: "
                     + usersUrl, e);
         }
@@ -68,7 +75,7 @@ public class MapsApiServiceImpl implements MapsApiService {
         return new LocationDto(longUrl, latitude, longitude);
     }
 
-    private String getRedirectUrl(String usersUrl) throws IOException {
+    private String getRedirectUrl(String usersUrl) {
         InputStream inputStream = null;
         try {
             HttpsURLConnection.setDefaultHostnameVerifier(new HostnameVerifier() {
@@ -90,7 +97,11 @@ public class MapsApiServiceImpl implements MapsApiService {
             throw new MapsServiceException("Something went wrong when parsing long url", e);
         } finally {
             if (inputStream != null) {
-                inputStream.close();
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
             }
         }
         return null;
@@ -101,8 +112,8 @@ public class MapsApiServiceImpl implements MapsApiService {
                 + "?address=" + formattedKey
                 + "&key=" + apisConfigProperties.mapsApiKey();
         RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.getForEntity(geocodingLink, String.class);
-        return response;
+        return apiCallMetrics.record(METRICS_SERVICE, "geocoding",
+                () -> restTemplate.getForEntity(geocodingLink, String.class));
     }
 
     private static LocationDto parseCoordinatesAndCreateMapsResponseDto(
@@ -0,0 +1,51 @@
+package wander.wise.application.service.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times calls to external services. Every call is tagged with the service,
+ * the operation and its outcome, failed calls are counted by exception type
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiCallMetrics {
+    private static final String CALLS_METRIC = "external.calls";
+    private static final String ERRORS_METRIC = "external.calls.errors";
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String service, String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            Counter.builder(ERRORS_METRIC)
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CALLS_METRIC)
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(String service, String operation, Runnable call) {
+        record(service, operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
@@ -8,17 +8,23 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import wander.wise.application.exception.custom.StorageServiceException;
+import wander.wise.application.service.api.metrics.ApiCallMetrics;
 
 @Service
+@Profile("!fakes")
 public class StorageServiceImpl implements StorageService {
     public static final String BASE_URL = "https://ww-images.s3.us-east-1.amazonaws.com/";
+    private static final String METRICS_SERVICE = "s3";
     @Value("${application.bucket.name}")
     private String bucketName;
     @Autowired
     private AmazonS3 s3Client;
+    @Autowired
+    private ApiCallMetrics apiCallMetrics;
 
     @Override
     public String uploadFile(MultipartFile file) {
@@ -26,7 +32,8 @@ public class StorageServiceImpl implements StorageService {
         String filename = System.currentTimeMillis() + "_"
                 + file.getOriginalFilename();
         try {
-            s3Client.putObject(new PutObjectRequest(bucketName, filename, fileObj));
+            apiCallMetrics.record(METRICS_SERVICE, "put", () -> s3Client
+                    .putObject(new PutObjectRequest(bucketName, filename, fileObj)));
             fileObj.delete();
             return BASE_URL + filename;
         } catch (SdkClientException e) {
@@ -38,7 +45,8 @@ public class StorageServiceImpl implements StorageService {
     @Override
     public String deleteFile(String fileName) {
         try {
-            s3Client.deleteObject(bucketName, fileName);
+            apiCallMetrics.record(METRICS_SERVICE, "delete",
+                    () -> s3Client.deleteObject(bucketName, fileName));
             return fileName + " removed";
         } catch (SdkClientException e) {
             throw new StorageServiceException(
@@ -1,24 +1,42 @@
 package wander.wise.application.service.card;
 
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 import wander.wise.application.dto.card.CardDto;
 import wander.wise.application.dto.card.CardSearchParameters;
 import wander.wise.application.dto.card.CreateCardRequestDto;
 import wander.wise.application.dto.card.ReportCardRequestDto;
-import wander.wise.application.dto.card.SearchCardsResponseDto;
+import wander.wise.application.dto.card.SearchCardsPage;
+import wander.wise.application.dto.card.SearchStatsDto;
+import wander.wise.application.dto.card.TrendingCardDto;
+import wander.wise.application.dto.version.VersionDto;
 
 public interface CardService {
     CardDto createNewCard(String email, CreateCardRequestDto requestDto);
 
     CardDto findById(Long id);
 
+    Optional<VersionDto> findVersionById(Long id);
+
     CardDto updateById(Long id, String email, CreateCardRequestDto requestDto);
 
     CardDto addImagesToCardById(Long id, String email, List<MultipartFile> images);
 
-    SearchCardsResponseDto search(Pageable pageable, CardSearchParameters searchParameters);
+    /**
+     * @param clientKey user email or IP address, that generation is limited by
+     */
+    SearchCardsPage search(
+            Pageable pageable,
+            CardSearchParameters searchParameters,
+            String clientKey);
+
+    boolean pregenerateCards(CardSearchParameters resolvedParameters, int requiredAmount);
+
+    List<SearchStatsDto> getSearchStats(int days, int limit);
+
+    List<TrendingCardDto> getTrending(String continent, String region, int limit);
 
     boolean postLike(Long id, String email);
 
@@ -1,47 +1,79 @@
 package wander.wise.application.service.card;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import wander.wise.application.config.datasource.ReplicaRoutingDataSource;
 import wander.wise.application.constants.GlobalConstants;
 import wander.wise.application.dto.ai.AiResponseDto;
 import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.dto.card.CardJsonFragment;
+import wander.wise.application.dto.card.CardLocationDto;
 import wander.wise.application.dto.card.CardSearchParameters;
 import wander.wise.application.dto.card.CreateCardRequestDto;
 import wander.wise.application.dto.card.ReportCardRequestDto;
-import wander.wise.application.dto.card.SearchCardsResponseDto;
+import wander.wise.application.dto.card.SearchCardsPage;
+import wander.wise.application.dto.card.SearchStatsDto;
+import wander.wise.application.dto.card.TrendingCardDto;
 import wander.wise.application.dto.maps.LocationDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.exception.custom.AuthorizationException;
 import wander.wise.application.exception.custom.CardSearchException;
 import wander.wise.application.mapper.CardMapper;
 import wander.wise.application.model.Card;
 import wander.wise.application.model.Collection;
+import wander.wise.application.model.Report;
 import wander.wise.application.model.User;
 import wander.wise.application.repository.card.CardRepository;
 import wander.wise.application.repository.card.CardSpecificationBuilder;
+import wander.wise.application.repository.card.batch.CardBatchRepository;
 import wander.wise.application.repository.collection.CollectionRepository;
+import wander.wise.application.repository.event.SearchEventRepository;
 import wander.wise.application.repository.user.UserRepository;
 import wander.wise.application.service.api.ai.AiApiService;
-import wander.wise.application.service.api.email.EmailService;
 import wander.wise.application.service.api.images.ImageSearchApiService;
 import wander.wise.application.service.api.maps.MapsApiService;
 import wander.wise.application.service.api.storage.StorageService;
+import wander.wise.application.service.card.cache.CachedSearchResult;
+import wander.wise.application.service.card.cache.CardDetailsCache;
+import wander.wise.application.service.card.cache.CardSearchCache;
+import wander.wise.application.service.card.event.SearchEvent;
+import wander.wise.application.service.card.event.SearchEventBuffer;
+import wander.wise.application.service.card.event.SearchLatencies;
+import wander.wise.application.service.card.limit.GenerationLimiter;
+import wander.wise.application.service.card.limit.GenerationPermit;
+import wander.wise.application.service.card.pregeneration.SearchDemandTracker;
+import wander.wise.application.service.card.trending.TrendingEngine;
+import wander.wise.application.service.card.trending.TrendingEvent;
+import wander.wise.application.service.report.ReportService;
 import wander.wise.application.service.user.UserService;
 
 import static wander.wise.application.constants.GlobalConstants.DIVIDER;
-import static wander.wise.application.constants.GlobalConstants.SEPARATOR;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CardServiceImpl implements CardService {
@@ -52,13 +84,24 @@ public class CardServiceImpl implements CardService {
     private final ImageSearchApiService imageSearchApiService;
     private final MapsApiService mapsApiService;
     private final CardRepository cardRepository;
+    private final CardBatchRepository cardBatchRepository;
     private final CardMapper cardMapper;
     private final CardSpecificationBuilder cardSpecificationBuilder;
     private final UserRepository userRepository;
-    private final EmailService emailService;
     private final CollectionRepository collectionRepository;
     private final StorageService storageService;
     private final UserService userService;
+    private final CardSearchCache cardSearchCache;
+    private final CardDetailsCache cardDetailsCache;
+    private final SearchDemandTracker searchDemandTracker;
+    private final SearchEventBuffer searchEventBuffer;
+    private final SearchEventRepository searchEventRepository;
+    private final GenerationLimiter generationLimiter;
+    private final ExecutorService searchExecutor;
+    private final ReportService reportService;
+    private final TrendingEngine trendingEngine;
+    @Value("${moderation.auto-hide-threshold:10}")
+    private long autoHideThreshold;
 
     @Override
     @Transactional
@@ -66,6 +109,7 @@ public class CardServiceImpl implements CardService {
         User author = userService.findUserEntityByEmail(email);
         if (!author.isBanned()) {
             Card savedCard = cardRepository.save(initializeUsersCard(requestDto, author));
+            cardSearchCache.evict(savedCard);
             Collection updatedSavedCards = collectionRepository.findAllByUserEmail(email)
                     .stream()
                     .filter(collection -> collection.getName().equals("Created cards"))
@@ -73,6 +117,7 @@ public class CardServiceImpl implements CardService {
                     .get();
             updatedSavedCards.getCards().add(savedCard);
             collectionRepository.save(updatedSavedCards);
+            collectionRepository.incrementVersion(updatedSavedCards.getId(), LocalDateTime.now());
             return cardMapper.toDto(savedCard);
         } else {
             throw new AuthorizationException("Access denied. User is banned.");
@@ -99,7 +144,11 @@ public class CardServiceImpl implements CardService {
                                 .substring(link.lastIndexOf("/") + 1)));
             }
             updatedCard.setImageLinks(String.join("|", requestDto.imageLinks()));
-            return cardMapper.toDto(cardRepository.save(updatedCard));
+            Card savedCard = cardRepository.save(updatedCard);
+            cardRepository.incrementVersion(id, LocalDateTime.now());
+            cardSearchCache.evict(savedCard);
+            cardDetailsCache.evict(id);
+            return cardMapper.toDto(savedCard);
         } else {
             throw new AuthorizationException("Access denied.");
         }
@@ -126,7 +175,10 @@ public class CardServiceImpl implements CardService {
                 existingLinks = imageLinks;
             }
             updatedCard.setImageLinks(existingLinks);
-            return cardMapper.toDto(cardRepository.save(updatedCard));
+            Card savedCard = cardRepository.save(updatedCard);
+            cardRepository.incrementVersion(id, LocalDateTime.now());
+            cardDetailsCache.evict(id);
+            return cardMapper.toDto(savedCard);
         } else {
             throw new AuthorizationException("Access denied.");
         }
@@ -134,16 +186,23 @@ public class CardServiceImpl implements CardService {
 
     @Override
     public CardDto findById(Long id) {
-        return cardMapper.toDto(cardRepository.findById(id)
-                .filter(Card::isShown).orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find card by id: " + id)));
+        CardDto cardDto = cardDetailsCache.get(id, this::loadCardDetails);
+        if (!cardDto.isShown()) {
+            throw new EntityNotFoundException("Can't find card by id: " + id);
+        }
+        trendingEngine.record(id, TrendingEvent.Type.VIEW);
+        return cardDto;
+    }
+
+    @Override
+    public Optional<VersionDto> findVersionById(Long id) {
+        return cardRepository.findShownVersionById(id)
+                .map(cardVersion -> VersionDto.of("card", cardVersion));
     }
 
     @Override
     public CardDto findByIdAsAdmin(Long id) {
-        return cardMapper.toDto(cardRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find card by id: " + id)));
+        return cardDetailsCache.get(id, this::loadCardDetails);
     }
 
     @Override
@@ -161,6 +220,8 @@ public class CardServiceImpl implements CardService {
         if (!savedCardsIds.contains(id)) {
             updatedSavedCards.getCards().add(addedCard);
             collectionRepository.save(updatedSavedCards);
+            collectionRepository.incrementVersion(updatedSavedCards.getId(), LocalDateTime.now());
+            trendingEngine.record(id, TrendingEvent.Type.SAVE);
             return true;
         } else {
             return false;
@@ -182,6 +243,7 @@ public class CardServiceImpl implements CardService {
         if (savedCardsIds.contains(id)) {
             updatedSavedCards.getCards().remove(removedCard);
             collectionRepository.save(updatedSavedCards);
+            collectionRepository.incrementVersion(updatedSavedCards.getId(), LocalDateTime.now());
             return true;
         } else {
             return false;
@@ -200,10 +262,12 @@ public class CardServiceImpl implements CardService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find card by id: " + id));
         if (!updatedLikedCards.getCards().contains(likedCard)) {
-            likedCard.setLikes(likedCard.getLikes() + 1);
-            Card savedCard = cardRepository.save(likedCard);
             updatedLikedCards.getCards().add(likedCard);
             collectionRepository.save(updatedLikedCards);
+            collectionRepository.incrementVersion(updatedLikedCards.getId(), LocalDateTime.now());
+            cardRepository.addToLikes(id, 1, LocalDateTime.now());
+            cardDetailsCache.evict(id);
+            trendingEngine.record(id, TrendingEvent.Type.LIKE);
             return true;
         } else {
             return false;
@@ -224,8 +288,9 @@ public class CardServiceImpl implements CardService {
         if (updatedLikedCards.getCards().contains(likedCard)) {
             updatedLikedCards.getCards().remove(likedCard);
             collectionRepository.save(updatedLikedCards);
-            likedCard.setLikes(likedCard.getLikes() - 1);
-            cardRepository.save(likedCard);
+            collectionRepository.incrementVersion(updatedLikedCards.getId(), LocalDateTime.now());
+            cardRepository.addToLikes(id, -1, LocalDateTime.now());
+            cardDetailsCache.evict(id);
             return true;
         } else {
             return false;
@@ -241,6 +306,10 @@ public class CardServiceImpl implements CardService {
         if (hiddenCard.isShown()) {
             hiddenCard.setShown(false);
             cardRepository.save(hiddenCard);
+            cardRepository.incrementVersion(id, LocalDateTime.now());
+            cardSearchCache.evict(hiddenCard);
+            cardDetailsCache.evict(id);
+            trendingEngine.remove(id);
             return true;
         } else {
             return false;
@@ -256,6 +325,9 @@ public class CardServiceImpl implements CardService {
         if (!revealedCard.isShown()) {
             revealedCard.setShown(true);
             cardRepository.save(revealedCard);
+            cardRepository.incrementVersion(id, LocalDateTime.now());
+            cardSearchCache.evict(revealedCard);
+            cardDetailsCache.evict(id);
             return true;
         } else {
             return false;
@@ -273,6 +345,9 @@ public class CardServiceImpl implements CardService {
                 || updatedCard.getAuthor()
                 .equals(updatingUser.getPseudonym())) {
             cardRepository.deleteById(id);
+            cardSearchCache.evict(updatedCard);
+            cardDetailsCache.evict(id);
+            trendingEngine.remove(id);
         } else {
             throw new AuthorizationException("Access denied.");
         }
@@ -281,46 +356,145 @@ public class CardServiceImpl implements CardService {
     @Override
     @Transactional
     public void report(Long id, String email, ReportCardRequestDto requestDto) {
-        Card reportedCard = cardRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find card by id: " + id));
-        reportedCard.setReports(reportedCard.getReports() + 1);
-        String message = new StringBuilder()
-                .append("User email: ").append(email)
-                .append(SEPARATOR)
-                .append("Card id: ").append(id)
-                .append(SEPARATOR)
-                .append("Report text: ").append(requestDto.text())
-                .append(SEPARATOR)
-                .append("Card was reported: ")
-                .append(reportedCard.getReports()).append(" times")
-                .toString();
-        emailService.sendEmail(
-                "budzetbudzet4@gmail.com",
-                "Report for card " + reportedCard.getFullName(),
-                message);
-        cardRepository.save(reportedCard);
+        if (!cardRepository.existsById(id)) {
+            throw new EntityNotFoundException("Can't find card by id: " + id);
+        }
+        long reportersCount = reportService.report(
+                Report.TargetType.CARD,
+                id,
+                email,
+                requestDto.text());
+        if (reportersCount >= autoHideThreshold && hideCard(id)) {
+            log.info("Card {} was hidden after reports of {} users", id, reportersCount);
+        }
     }
 
     @Override
-    public SearchCardsResponseDto search(
+    public SearchCardsPage search(
             Pageable pageable,
-            CardSearchParameters searchParams) {
-        searchParams = resetTravelDistance(searchParams);
-        Specification<Card> cardSpec = cardSpecificationBuilder.build(searchParams);
-        List<Card> foundCards = findOrGenerateCards(
+            CardSearchParameters searchParams,
+            String clientKey) {
+        long searchStart = System.nanoTime();
+        CachedSearchResult cachedResult = cardSearchCache.get(searchParams);
+        if (cachedResult != null && isEnoughCards(pageable, cachedResult)) {
+            recordDemand(cachedResult.searchParameters());
+            SearchCardsPage responsePage = new SearchCardsPage(
+                    pageable.getPageNumber(),
+                    initializeCachedCardFragments(
+                            findCardLocationsByIds(getPage(pageable, cachedResult.cardIds())),
+                            cachedResult.startLocation()));
+            searchEventBuffer.publish(SearchEvent.of(
+                    cachedResult.searchParameters(),
+                    cachedResult.cardIds().size(),
+                    true,
+                    false,
+                    SearchLatencies.totalOnly(millisSince(searchStart))));
+            return responsePage;
+        }
+        // Geocoding doesn't depend on the other steps, so it runs alongside them
+        Future<LocationDto> startLocationFuture = searchExecutor.submit(() -> mapsApiService
+                .getMapsResponseByLocationName(searchParams.startLocation()));
+        CardSearchParameters resolvedParams;
+        FoundCards foundCards;
+        long resolveEnd;
+        long findEnd;
+        try {
+            resolvedParams = resetTravelDistance(searchParams);
+            resolveEnd = System.nanoTime();
+            recordDemand(resolvedParams);
+            Specification<Card> cardSpec = cardSpecificationBuilder.build(resolvedParams);
+            foundCards = findOrGenerateCards(
+                    resolvedParams,
+                    cardSpec,
+                    pageable,
+                    clientKey,
+                    INITIAL_ATTEMPTS,
+                    false);
+            findEnd = System.nanoTime();
+        } catch (RuntimeException e) {
+            startLocationFuture.cancel(true);
+            throw e;
+        }
+        if (foundCards.cards().isEmpty()) {
+            startLocationFuture.cancel(true);
+            searchEventBuffer.publish(SearchEvent.of(
+                    resolvedParams,
+                    0,
+                    false,
+                    foundCards.generated(),
+                    new SearchLatencies(
+                            millisBetween(searchStart, resolveEnd),
+                            millisBetween(resolveEnd, findEnd),
+                            0,
+                            millisSince(searchStart))));
+            throw new CardSearchException("Couldn't find and generate enough cards, "
+                    + "that match provided requirements");
+        }
+        LocationDto startLocationCoordinates = getStartLocation(startLocationFuture);
+        long geocodeEnd = System.nanoTime();
+        cardSearchCache.put(
                 searchParams,
-                cardSpec,
-                pageable,
-                INITIAL_ATTEMPTS);
-        LocationDto startLocationCoordinates = mapsApiService
-                .getMapsResponseByLocationName(searchParams.startLocation());
-
-        return new SearchCardsResponseDto(
+                resolvedParams,
+                startLocationCoordinates,
+                foundCards.cards().stream().map(Card::getId).toList());
+        SearchCardsPage responsePage = new SearchCardsPage(
                 pageable.getPageNumber(),
-                initializeCardDtos(
-                        foundCards,
+                initializeCardFragments(
+                        getPage(pageable, foundCards.cards()),
                         startLocationCoordinates));
+        searchEventBuffer.publish(SearchEvent.of(
+                resolvedParams,
+                foundCards.cards().size(),
+                false,
+                foundCards.generated(),
+                new SearchLatencies(
+                        millisBetween(searchStart, resolveEnd),
+                        millisBetween(resolveEnd, findEnd),
+                        millisBetween(findEnd, geocodeEnd),
+                        millisSince(searchStart))));
+        return responsePage;
+    }
+
+    @Override
+    public List<TrendingCardDto> getTrending(String continent, String region, int limit) {
+        return trendingEngine.findTrending(continent, region, limit);
+    }
+
+    @Override
+    public List<SearchStatsDto> getSearchStats(int days, int limit) {
+        return searchEventRepository.findStatsSince(
+                LocalDateTime.now().minusDays(days),
+                limit);
+    }
+
+    /**
+     * Generates cards once if there are fewer than required. Meant for
+     * background runs, so it doesn't fail when nothing was generated
+     *
+     * @return whether generation was run
+     */
+    @Override
+    public boolean pregenerateCards(CardSearchParameters resolvedParams, int requiredAmount) {
+        List<Card> foundCards = findCards(cardSpecificationBuilder.build(resolvedParams));
+        if (foundCards.size() >= requiredAmount) {
+            return false;
+        }
+        Optional<GenerationPermit> permit = generationLimiter.tryAcquireBackground();
+        if (permit.isEmpty()) {
+            return false;
+        }
+        try (GenerationPermit generationPermit = permit.get()) {
+            generateAndSaveCards(
+                    resolvedParams,
+                    getLocationsToExcludeAndTypeMap(resolvedParams, foundCards));
+        }
+        return true;
+    }
+
+    private void recordDemand(CardSearchParameters resolvedParams) {
+        if (isAiCardsRequired(resolvedParams)) {
+            searchDemandTracker.record(resolvedParams);
+        }
     }
 
     private CardSearchParameters resetTravelDistance(CardSearchParameters searchParameters) {
@@ -343,43 +517,96 @@ public class CardServiceImpl implements CardService {
         return searchParameters;
     }
 
-    private List<Card> findOrGenerateCards(
+    private FoundCards findOrGenerateCards(
             CardSearchParameters searchParams,
             Specification<Card> cardSpec,
             Pageable pageable,
-            int attempts) {
-        List<Card> foundCards = findCards(cardSpec).stream()
-                .filter(Card::isShown)
-                .toList();
+            String clientKey,
+            int attempts,
+            boolean generated) {
+        List<Card> foundCards = generated
+                ? findCardsOnPrimary(cardSpec)
+                : findCards(cardSpec);
         if (foundCards.size() < getRequiredCardsAmount(pageable)
                 && isAiCardsRequired(searchParams)
                 && attempts < MAX_ATTEMPTS) {
+            Optional<GenerationPermit> permit = generationLimiter.tryAcquire(clientKey);
+            if (permit.isEmpty()) {
+                return new FoundCards(foundCards, generated);
+            }
             attempts++;
-            generateAndSaveCards(
-                    searchParams,
-                    getLocationsToExcludeAndTypeMap(
-                            searchParams,
-                            foundCards));
+            try (GenerationPermit generationPermit = permit.get()) {
+                generateAndSaveCards(
+                        searchParams,
+                        getLocationsToExcludeAndTypeMap(
+                                searchParams,
+                                foundCards));
+            }
             return findOrGenerateCards(
                     searchParams,
                     cardSpec,
                     pageable,
-                    attempts);
+                    clientKey,
+                    attempts,
+                    true);
         }
-        if (foundCards.isEmpty()) {
-            throw new CardSearchException("Couldn't find and generate enough cards, "
-                    + "that match provided requirements");
+        return new FoundCards(foundCards, generated);
+    }
+
+    private static LocationDto getStartLocation(Future<LocationDto> startLocationFuture) {
+        try {
+            return startLocationFuture.get();
+        } catch (InterruptedException e) {
+            startLocationFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CardSearchException("Search was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CardSearchException("Couldn't find start location", e);
         }
-        return getPage(pageable, foundCards);
+    }
+
+    private CardDto loadCardDetails(Long id) {
+        return cardMapper.toDto(cardRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find card by id: " + id)));
     }
 
     private List<Card> findCards(Specification<Card> cardSpec) {
-        return cardRepository.findAll(cardSpec)
+        return cardRepository.findAll(cardSpec);
+    }
+
+    /**
+     * Cards were just generated by this search, a replica may not have them yet
+     */
+    private List<Card> findCardsOnPrimary(Specification<Card> cardSpec) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> cardRepository.findAll(cardSpec));
+    }
+
+    /**
+     * Keeps the order of ids, hidden and deleted cards are left out
+     */
+    private List<CardLocationDto> findCardLocationsByIds(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CardLocationDto> locationsById = cardRepository
+                .findShownLocationsByIds(cardIds)
                 .stream()
-                .filter(Card::isShown)
+                .collect(Collectors.toMap(CardLocationDto::id, Function.identity()));
+        return cardIds.stream()
+                .map(locationsById::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
+    private boolean isEnoughCards(Pageable pageable, CachedSearchResult cachedResult) {
+        return cachedResult.cardIds().size() >= getRequiredCardsAmount(pageable)
+                || !isAiCardsRequired(cachedResult.searchParameters());
+    }
+
     private void generateAndSaveCards(
             CardSearchParameters searchParams,
             Map<String, List<String>> locationsToExcludeAndTypeMap) {
@@ -388,29 +615,42 @@ public class CardServiceImpl implements CardService {
                 locationsToExcludeAndTypeMap);
         List<Card> generatedCards = aiResponsesToCards(responseDtos);
         if (!generatedCards.isEmpty()) {
-            for (Card card : generatedCards) {
-                try {
-                    cardRepository.save(card);
-                } catch (Exception e) {
-                    System.out.println("Duplicate entity");
-                }
+            List<String> skippedFullNames = cardBatchRepository
+                    .saveAllIgnoringDuplicates(generatedCards);
+            cardSearchCache.evict(generatedCards);
+            if (!skippedFullNames.isEmpty()) {
+                log.info("Skipped {} generated cards, that were saved concurrently: {}",
+                        skippedFullNames.size(), skippedFullNames);
             }
         }
     }
 
     private List<Card> aiResponsesToCards(List<AiResponseDto> responseDtos) {
-        List<Card> generatedCards = responseDtos.stream()
+        Map<String, AiResponseDto> responsesByFullName = responseDtos.stream()
+                .collect(Collectors.toMap(
+                        AiResponseDto::fullName,
+                        Function.identity(),
+                        (first, duplicate) -> first,
+                        LinkedHashMap::new));
+        if (responsesByFullName.isEmpty()) {
+            return List.of();
+        }
+        Set<String> existingFullNames = cardRepository
+                .findExistingFullNames(responsesByFullName.keySet());
+        if (!existingFullNames.isEmpty()) {
+            log.info("Skipped {} generated cards, that already exist: {}",
+                    existingFullNames.size(), existingFullNames);
+        }
+        return responsesByFullName.values()
+                .stream()
+                .filter(aiResponseDto -> !existingFullNames.contains(aiResponseDto.fullName()))
                 .map(this::initialiseCard)
                 .filter(Objects::nonNull)
                 .toList();
-        return generatedCards;
     }
 
     private Card initialiseCard(AiResponseDto aiResponseDto) {
         String fullName = aiResponseDto.fullName();
-        if (cardRepository.existsByFullName(fullName)) {
-            return null;
-        }
         String searchKey = getSearchKey(fullName);
         LocationDto locationDto = mapsApiService
                 .getMapsResponseByLocationName(searchKey);
@@ -436,26 +676,49 @@ public class CardServiceImpl implements CardService {
         return newCard;
     }
 
-    private List<CardDto> initializeCardDtos(
+    private List<CardJsonFragment> initializeCardFragments(
             List<Card> foundCards,
             LocationDto startLocationCoordinates) {
         return foundCards.stream()
-                .map(card -> {
-                    CardDto cardDto = cardMapper.toDto(card);
-                    cardDto.setDistance(findDistance(card, startLocationCoordinates));
-                    return cardDto;
-                })
+                .map(card -> new CardJsonFragment(
+                        cardDetailsCache.getJsonFragment(
+                                card.getId(),
+                                id -> cardMapper.toDto(card)),
+                        findDistance(card, startLocationCoordinates)))
+                .toList();
+    }
+
+    /**
+     * Card details, that aren't cached yet, are loaded by id
+     */
+    private List<CardJsonFragment> initializeCachedCardFragments(
+            List<CardLocationDto> cardLocations,
+            LocationDto startLocationCoordinates) {
+        return cardLocations.stream()
+                .map(cardLocation -> new CardJsonFragment(
+                        cardDetailsCache.getJsonFragment(
+                                cardLocation.id(),
+                                this::loadCardDetails),
+                        findDistance(
+                                cardLocation.latitude(),
+                                cardLocation.longitude(),
+                                startLocationCoordinates)))
                 .toList();
     }
 
-    private int findDistance(
+    static int findDistance(
             Card card,
             LocationDto startLocationCoordinates) {
+        return findDistance(card.getLatitude(), card.getLongitude(), startLocationCoordinates);
+    }
+
+    static int findDistance(
+            double endLatitude,
+            double endLongitude,
+            LocationDto startLocationCoordinates) {
         // Parse coordinates
         double startLatitude = startLocationCoordinates.latitude();
         double startLongitude = startLocationCoordinates.longitude();
-        double endLatitude = card.getLatitude();
-        double endLongitude = card.getLongitude();
         // Calculate difference
         double latitudeDifference = Math.toRadians(endLatitude - startLatitude);
         double longitudeDifference = Math.toRadians(endLongitude - startLongitude);
@@ -492,15 +755,15 @@ public class CardServiceImpl implements CardService {
         return locationsToExcludeAndTypeMap;
     }
 
-    private static List<Card> getPage(
+    private static <T> List<T> getPage(
             Pageable pageable,
-            List<Card> foundCards) {
+            List<T> foundItems) {
         int pageStart = (int) pageable.getOffset();
-        int pageEnd = Math.min(pageStart + pageable.getPageSize(), foundCards.size());
+        int pageEnd = Math.min(pageStart + pageable.getPageSize(), foundItems.size());
         return new PageImpl<>(
-                foundCards.subList(pageStart, pageEnd),
+                foundItems.subList(pageStart, pageEnd),
                 pageable,
-                foundCards.size()).toList();
+                foundItems.size()).toList();
     }
 
     private static int getRequiredCardsAmount(Pageable pageable) {
@@ -535,4 +798,15 @@ public class CardServiceImpl implements CardService {
         return locationDto.latitude() != 0
                 || locationDto.longitude() != 0;
     }
+
+    private static long millisSince(long startNanos) {
+        return millisBetween(startNanos, System.nanoTime());
+    }
+
+    private static long millisBetween(long startNanos, long endNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+    }
+
+    private record FoundCards(List<Card> cards, boolean generated) {
+    }
 }
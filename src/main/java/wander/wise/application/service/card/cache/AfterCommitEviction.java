@@ -0,0 +1,26 @@
+package wander.wise.application.service.card.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class AfterCommitEviction {
+    private AfterCommitEviction() {
+    }
+
+    /**
+     * Runs eviction right away and, inside a transaction, once more after
+     * commit, so entries cached from not yet committed state are dropped too
+     */
+    static void run(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            eviction.run();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package wander.wise.application.service.card.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Follows Micrometer cache meters naming, so hit ratio is
+ * cache_gets{result="hit"} / cache_gets
+ */
+final class CacheMetrics {
+    private CacheMetrics() {
+    }
+
+    static Counter hitsCounter(String cacheName, MeterRegistry meterRegistry) {
+        return getsCounter(cacheName, "hit", meterRegistry);
+    }
+
+    static Counter missesCounter(String cacheName, MeterRegistry meterRegistry) {
+        return getsCounter(cacheName, "miss", meterRegistry);
+    }
+
+    static <T> void sizeGauge(String cacheName,
+                              T cache,
+                              ToDoubleFunction<T> size,
+                              MeterRegistry meterRegistry) {
+        Gauge.builder("cache.size", cache, size)
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    private static Counter getsCounter(String cacheName,
+                                       String result,
+                                       MeterRegistry meterRegistry) {
+        return Counter.builder("cache.gets")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
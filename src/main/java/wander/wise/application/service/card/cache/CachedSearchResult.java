@@ -0,0 +1,11 @@
+package wander.wise.application.service.card.cache;
+
+import java.util.List;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.dto.maps.LocationDto;
+
+public record CachedSearchResult(
+        CardSearchParameters searchParameters,
+        LocationDto startLocation,
+        List<Long> cardIds) {
+}
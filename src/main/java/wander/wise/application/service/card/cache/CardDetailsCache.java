@@ -0,0 +1,126 @@
+package wander.wise.application.service.card.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.mapper.CardMapper;
+
+/**
+ * Keeps ready to serve card details. One entry serves both public and
+ * admin views, hidden cards are filtered out by the caller. Each entry
+ * also keeps the card JSON, that search pages are assembled from
+ */
+@Component
+public class CardDetailsCache {
+    private static final String DISTANCE_FIELD = "distance";
+    private final Cache<Long, CachedCardDetails> cachedDetails;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+    private final ObjectMapper objectMapper;
+    private final CardMapper cardMapper;
+    private final AtomicLong evictAllCount = new AtomicLong();
+
+    public CardDetailsCache(
+            @Value("${cards.details-cache.max-size:10000}") int maxSize,
+            @Value("${cards.details-cache.ttl-minutes:10}") long timeToLiveMinutes,
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            CardMapper cardMapper) {
+        this.cachedDetails = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(timeToLiveMinutes))
+                .build();
+        this.hitsCounter = CacheMetrics.hitsCounter("cards.details", meterRegistry);
+        this.missesCounter = CacheMetrics.missesCounter("cards.details", meterRegistry);
+        CacheMetrics.sizeGauge("cards.details", this, CardDetailsCache::size, meterRegistry);
+        this.objectMapper = objectMapper;
+        this.cardMapper = cardMapper;
+    }
+
+    /**
+     * Returns a copy of cached details or loads them, so callers may
+     * change the result without affecting other requests
+     */
+    public CardDto get(Long id, Function<Long, CardDto> loader) {
+        return cardMapper.copy(getDetails(id, loader).cardDto());
+    }
+
+    /**
+     * Same as {@link #get(Long, Function)}, but returns the card JSON
+     * without the per-request distance
+     */
+    public byte[] getJsonFragment(Long id, Function<Long, CardDto> loader) {
+        return getDetails(id, loader).jsonFragment();
+    }
+
+    /**
+     * Loads details once per card id. Evicting the id waits for its
+     * in-flight load and drops the result, loads of other cards are
+     * not affected. A load, that overlaps {@link #evictAll()}, is
+     * served but not kept
+     */
+    private CachedCardDetails getDetails(Long id, Function<Long, CardDto> loader) {
+        long evictAllCountBeforeLoad = evictAllCount.get();
+        boolean[] loaded = new boolean[1];
+        CachedCardDetails details = cachedDetails.get(id, key -> {
+            loaded[0] = true;
+            return toCachedDetails(loader.apply(key));
+        });
+        (loaded[0] ? missesCounter : hitsCounter).increment();
+        if (loaded[0] && evictAllCountBeforeLoad != evictAllCount.get()) {
+            cachedDetails.asMap().remove(id, details);
+        }
+        return details;
+    }
+
+    public long size() {
+        return cachedDetails.estimatedSize();
+    }
+
+    public void evict(Long id) {
+        AfterCommitEviction.run(() -> cachedDetails.invalidate(id));
+    }
+
+    public void evictAll() {
+        AfterCommitEviction.run(this::evictAllNow);
+    }
+
+    private void evictAllNow() {
+        evictAllCount.incrementAndGet();
+        cachedDetails.invalidateAll();
+    }
+
+    private CachedCardDetails toCachedDetails(CardDto cardDto) {
+        return new CachedCardDetails(cardDto, toJsonFragment(cardDto));
+    }
+
+    /**
+     * Serializes the card without distance and drops the closing brace,
+     * so distance can be appended to the bytes as is
+     */
+    private byte[] toJsonFragment(CardDto cardDto) {
+        ObjectNode cardJson = objectMapper.valueToTree(cardDto);
+        cardJson.remove(DISTANCE_FIELD);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cardJson);
+            return Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CachedCardDetails(CardDto cardDto, byte[] jsonFragment) {
+    }
+}
@@ -0,0 +1,197 @@
+package wander.wise.application.service.card.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.dto.maps.LocationDto;
+import wander.wise.application.model.Card;
+
+/**
+ * Keeps ordered card ids of recent searches together with already
+ * resolved travel distance and start location coordinates.
+ * Backed by Caffeine, so lookups don't contend on a shared lock
+ */
+@Component
+public class CardSearchCache {
+    private static final String AI_AUTHOR = "AI";
+    private static final String USER_AUTHOR = "User";
+    private static final String KEY_DIVIDER = ";";
+    private final Cache<String, CachedSearchResult> cachedResults;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    public CardSearchCache(
+            @Value("${cards.search-cache.max-size:1000}") int maxSize,
+            @Value("${cards.search-cache.ttl-minutes:30}") long timeToLiveMinutes,
+            MeterRegistry meterRegistry) {
+        this.cachedResults = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(timeToLiveMinutes))
+                .build();
+        this.hitsCounter = CacheMetrics.hitsCounter("cards.search", meterRegistry);
+        this.missesCounter = CacheMetrics.missesCounter("cards.search", meterRegistry);
+        CacheMetrics.sizeGauge("cards.search", this, CardSearchCache::size, meterRegistry);
+    }
+
+    public CachedSearchResult get(CardSearchParameters searchParameters) {
+        CachedSearchResult cachedResult = cachedResults.getIfPresent(getKey(searchParameters));
+        (cachedResult == null ? missesCounter : hitsCounter).increment();
+        return cachedResult;
+    }
+
+    public long size() {
+        return cachedResults.estimatedSize();
+    }
+
+    /**
+     * @param searchParameters parameters as they came from the client
+     * @param resolvedParameters parameters with resolved travel distance
+     */
+    public void put(
+            CardSearchParameters searchParameters,
+            CardSearchParameters resolvedParameters,
+            LocationDto startLocation,
+            List<Long> cardIds) {
+        cachedResults.put(getKey(searchParameters), new CachedSearchResult(
+                resolvedParameters,
+                startLocation,
+                List.copyOf(cardIds)));
+    }
+
+    /**
+     * Removes results, that contain the card or would contain it
+     * after the search is repeated
+     */
+    public void evict(Card card) {
+        evict(List.of(card));
+    }
+
+    /**
+     * Same as {@link #evict(Card)}, but checks every result once for
+     * the whole batch
+     */
+    public void evict(List<Card> cards) {
+        List<Card> evictedCards = List.copyOf(cards);
+        AfterCommitEviction.run(() -> evictNow(evictedCards));
+    }
+
+    /**
+     * Drops all results, meant for bulk changes
+     */
+    public void evictAll() {
+        AfterCommitEviction.run(cachedResults::invalidateAll);
+    }
+
+    private void evictNow(List<Card> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        Set<Long> cardIds = cards.stream()
+                .map(Card::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        cachedResults.asMap().values().removeIf(cachedResult ->
+                cachedResult.cardIds().stream().anyMatch(cardIds::contains)
+                        || cards.stream().anyMatch(card ->
+                        matches(cachedResult.searchParameters(), card)));
+    }
+
+    /**
+     * Mirrors card specification providers. Comparison ignores case as
+     * database collation does, so it may only evict more than needed
+     */
+    private static boolean matches(CardSearchParameters searchParameters, Card card) {
+        if (isPresent(searchParameters.tripTypes())
+                && Arrays.stream(searchParameters.tripTypes())
+                .noneMatch(tripType -> containsIgnoreCase(card.getTripTypes(), tripType))) {
+            return false;
+        }
+        if (isPresent(searchParameters.climate())
+                && Arrays.stream(searchParameters.climate())
+                .noneMatch(climate -> climate.equalsIgnoreCase(card.getClimate()))) {
+            return false;
+        }
+        if (isPresent(searchParameters.specialRequirements())
+                && !Arrays.stream(searchParameters.specialRequirements())
+                .allMatch(requirement -> containsIgnoreCase(
+                        card.getSpecialRequirements(), requirement))) {
+            return false;
+        }
+        if (isPresent(searchParameters.travelDistance())
+                && !Arrays.stream(searchParameters.travelDistance())
+                .allMatch(distance -> containsIgnoreCase(card.getFullName(), distance))) {
+            return false;
+        }
+        return !isPresent(searchParameters.author())
+                || matchesAuthor(searchParameters.author()[0], card.getAuthor());
+    }
+
+    private static boolean matchesAuthor(String author, String cardAuthor) {
+        if (author.equals(AI_AUTHOR)) {
+            return AI_AUTHOR.equalsIgnoreCase(cardAuthor);
+        }
+        if (author.equals(USER_AUTHOR)) {
+            return !AI_AUTHOR.equalsIgnoreCase(cardAuthor);
+        }
+        return author.equalsIgnoreCase(cardAuthor);
+    }
+
+    /**
+     * Trip types, climate and special requirements are order independent,
+     * so they are sorted. Travel distance and author are matched exactly
+     * by their first value, so they are kept as is
+     */
+    private static String getKey(CardSearchParameters searchParameters) {
+        return new StringBuilder()
+                .append(normalize(searchParameters.startLocation()))
+                .append(KEY_DIVIDER)
+                .append(toSortedString(searchParameters.tripTypes()))
+                .append(KEY_DIVIDER)
+                .append(toSortedString(searchParameters.climate()))
+                .append(KEY_DIVIDER)
+                .append(toSortedString(searchParameters.specialRequirements()))
+                .append(KEY_DIVIDER)
+                .append(join(searchParameters.travelDistance()))
+                .append(KEY_DIVIDER)
+                .append(join(searchParameters.author()))
+                .toString();
+    }
+
+    private static String toSortedString(String[] values) {
+        if (values == null) {
+            return "";
+        }
+        return Arrays.stream(values)
+                .map(CardSearchCache::normalize)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("|"));
+    }
+
+    private static String join(String[] values) {
+        return values == null ? "" : String.join("|", values);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static boolean containsIgnoreCase(String field, String value) {
+        return field != null && field.toLowerCase().contains(value.toLowerCase());
+    }
+
+    private static boolean isPresent(String[] values) {
+        return values != null && values.length > 0;
+    }
+}
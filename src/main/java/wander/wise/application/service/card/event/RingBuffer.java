@@ -0,0 +1,54 @@
+package wander.wise.application.service.card.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free ring buffer between publishing threads and a single reader.
+ * Publishing never blocks: when the reader falls a whole lap behind,
+ * items landing on occupied slots are dropped and counted
+ */
+public class RingBuffer<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final int mask;
+    private final Counter droppedCounter;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    public RingBuffer(int capacity, String droppedCounterName, MeterRegistry meterRegistry) {
+        int powerOfTwoCapacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(powerOfTwoCapacity);
+        this.mask = powerOfTwoCapacity - 1;
+        this.droppedCounter = Counter.builder(droppedCounterName)
+                .description("Items dropped because the ring buffer was full")
+                .register(meterRegistry);
+    }
+
+    public void publish(T item) {
+        int slot = (int) (writeSequence.getAndIncrement() & mask);
+        if (!slots.compareAndSet(slot, null, item)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Takes all published items out of the buffer. Meant to be called
+     * from a single reader thread
+     */
+    public List<T> drain() {
+        List<T> items = new ArrayList<>();
+        for (int slot = 0; slot <= mask; slot++) {
+            T item = slots.getAndSet(slot, null);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
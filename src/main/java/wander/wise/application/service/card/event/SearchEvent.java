@@ -0,0 +1,76 @@
+package wander.wise.application.service.card.event;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import wander.wise.application.dto.card.CardSearchParameters;
+
+/**
+ * Compact record of one search. Parameters are normalized, so equal
+ * searches are grouped together by the aggregate queries
+ */
+public record SearchEvent(
+        LocalDateTime createdAt,
+        String startLocation,
+        String tripTypes,
+        String climate,
+        String specialRequirements,
+        String travelDistance,
+        String author,
+        int resultsCount,
+        boolean cacheHit,
+        boolean generationRan,
+        SearchLatencies latencies) {
+    private static final int MAX_VALUE_LENGTH = 255;
+    private static final String VALUES_DELIMITER = "|";
+
+    /**
+     * @param resolvedParams parameters with resolved travel distance
+     */
+    public static SearchEvent of(
+            CardSearchParameters resolvedParams,
+            int resultsCount,
+            boolean cacheHit,
+            boolean generationRan,
+            SearchLatencies latencies) {
+        return new SearchEvent(
+                LocalDateTime.now(),
+                normalize(resolvedParams.startLocation()),
+                normalize(resolvedParams.tripTypes()),
+                normalize(resolvedParams.climate()),
+                normalize(resolvedParams.specialRequirements()),
+                normalize(resolvedParams.travelDistance()),
+                normalize(resolvedParams.author()),
+                resultsCount,
+                cacheHit,
+                generationRan,
+                latencies);
+    }
+
+    private static String normalize(String[] values) {
+        if (values == null) {
+            return "";
+        }
+        return truncate(Arrays.stream(values)
+                .filter(Objects::nonNull)
+                .map(SearchEvent::normalizeValue)
+                .filter(value -> !value.isEmpty())
+                .sorted()
+                .distinct()
+                .collect(Collectors.joining(VALUES_DELIMITER)));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : truncate(normalizeValue(value));
+    }
+
+    private static String normalizeValue(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value) {
+        return value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) : value;
+    }
+}
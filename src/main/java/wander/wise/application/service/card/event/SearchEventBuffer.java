@@ -0,0 +1,17 @@
+package wander.wise.application.service.card.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffers search events between searching threads and the event writer
+ */
+@Component
+public class SearchEventBuffer extends RingBuffer<SearchEvent> {
+    public SearchEventBuffer(
+            @Value("${search-events.buffer-capacity:8192}") int capacity,
+            MeterRegistry meterRegistry) {
+        super(capacity, "search.events.dropped", meterRegistry);
+    }
+}
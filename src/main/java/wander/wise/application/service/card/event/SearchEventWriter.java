@@ -0,0 +1,39 @@
+package wander.wise.application.service.card.event;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wander.wise.application.repository.event.SearchEventRepository;
+
+/**
+ * Periodically moves buffered search events to the database in batches,
+ * so searching threads never wait for an insert
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchEventWriter {
+    private final SearchEventBuffer searchEventBuffer;
+    private final SearchEventRepository searchEventRepository;
+
+    @Scheduled(fixedDelayString = "${search-events.flush-interval-millis:5000}")
+    public void flush() {
+        List<SearchEvent> events = searchEventBuffer.drain();
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            searchEventRepository.saveAll(events);
+        } catch (RuntimeException e) {
+            log.warn("Couldn't save {} search events", events.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,20 @@
+package wander.wise.application.service.card.event;
+
+/**
+ * Time spent on each search stage. Stages, that were skipped, take 0
+ *
+ * @param resolveMillis travel distance resolution
+ * @param findMillis database search and generation
+ * @param geocodeMillis waiting for start location geocoding, that runs
+ *                      alongside the other stages
+ * @param totalMillis whole search
+ */
+public record SearchLatencies(
+        long resolveMillis,
+        long findMillis,
+        long geocodeMillis,
+        long totalMillis) {
+    public static SearchLatencies totalOnly(long totalMillis) {
+        return new SearchLatencies(0, 0, 0, totalMillis);
+    }
+}
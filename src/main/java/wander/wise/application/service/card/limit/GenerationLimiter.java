@@ -0,0 +1,126 @@
+package wander.wise.application.service.card.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a search may generate cards. Each client has a token
+ * bucket, keyed by user email or IP address, and all generations share
+ * a global concurrency cap. Searches, that are refused, get cards from
+ * the database only
+ */
+@Slf4j
+@Component
+public class GenerationLimiter {
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Semaphore generationSlots;
+    private final SharedRateLimitStore sharedStore;
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final int maxTrackedClients;
+    private final Counter rateLimitedCounter;
+    private final Counter concurrencyLimitedCounter;
+
+    public GenerationLimiter(
+            @Value("${search.rate-limit.capacity:5}") int capacity,
+            @Value("${search.rate-limit.refill-period-seconds:120}") long refillPeriodSeconds,
+            @Value("${search.rate-limit.max-concurrent-generations:4}") int maxConcurrent,
+            @Value("${search.rate-limit.max-tracked-clients:100000}") int maxTrackedClients,
+            ObjectProvider<SharedRateLimitStore> sharedStore,
+            MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.refillIntervalNanos = Duration.ofSeconds(refillPeriodSeconds).toNanos();
+        this.maxTrackedClients = maxTrackedClients;
+        this.generationSlots = new Semaphore(maxConcurrent);
+        this.sharedStore = sharedStore.getIfAvailable();
+        this.rateLimitedCounter = rejectionsCounter("rate", meterRegistry);
+        this.concurrencyLimitedCounter = rejectionsCounter("concurrency", meterRegistry);
+    }
+
+    /**
+     * @return permit, that must be closed after generation, or empty
+     * if the client is over its limit or all generation slots are taken
+     */
+    public Optional<GenerationPermit> tryAcquire(String clientKey) {
+        if (!generationSlots.tryAcquire()) {
+            concurrencyLimitedCounter.increment();
+            return Optional.empty();
+        }
+        GenerationPermit permit = new GenerationPermit(generationSlots);
+        if (!tryConsumeToken(clientKey)) {
+            permit.close();
+            rateLimitedCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(permit);
+    }
+
+    /**
+     * Background generation isn't made on behalf of a client, so it is
+     * limited by the concurrency cap only
+     */
+    public Optional<GenerationPermit> tryAcquireBackground() {
+        if (!generationSlots.tryAcquire()) {
+            concurrencyLimitedCounter.increment();
+            return Optional.empty();
+        }
+        return Optional.of(new GenerationPermit(generationSlots));
+    }
+
+    @Scheduled(fixedDelayString = "${search.rate-limit.cleanup-interval-millis:600000}")
+    public void removeIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (sharedStore != null) {
+            try {
+                sharedStore.removeIdle();
+            } catch (RuntimeException e) {
+                log.warn("Couldn't remove idle shared rate limit buckets", e);
+            }
+        }
+    }
+
+    private boolean tryConsumeToken(String clientKey) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedClients) {
+                // New clients get database results only until idle buckets are removed
+                return false;
+            }
+            bucket = buckets.computeIfAbsent(clientKey,
+                    key -> new TokenBucket(capacity, refillIntervalNanos, now));
+        }
+        if (!bucket.tryConsume(now)) {
+            return false;
+        }
+        return sharedStore == null || tryConsumeSharedToken(clientKey);
+    }
+
+    private boolean tryConsumeSharedToken(String clientKey) {
+        try {
+            return sharedStore.tryConsume(clientKey, capacity,
+                    Duration.ofNanos(refillIntervalNanos).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Shared rate limit store is unavailable, using the local limit only", e);
+            return true;
+        }
+    }
+
+    private static Counter rejectionsCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("search.generation.rejections")
+                .description("Searches, that were served without generation")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
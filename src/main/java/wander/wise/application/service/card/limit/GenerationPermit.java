@@ -0,0 +1,24 @@
+package wander.wise.application.service.card.limit;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Slot in the global generation concurrency cap. Closing it more than once
+ * releases the slot only once
+ */
+public class GenerationPermit implements AutoCloseable {
+    private final Semaphore generationSlots;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    GenerationPermit(Semaphore generationSlots) {
+        this.generationSlots = generationSlots;
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            generationSlots.release();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package wander.wise.application.service.card.limit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the same theoretical arrival time as {@link TokenBucket} in the
+ * rate_limit_buckets table and moves it with one conditional update
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.rate-limit.shared-store", havingValue = "jdbc")
+public class JdbcSharedRateLimitStore implements SharedRateLimitStore {
+    private static final String CONSUME_TOKEN = "UPDATE rate_limit_buckets "
+            + "SET theoretical_arrival = GREATEST(theoretical_arrival, ?) + ? "
+            + "WHERE bucket_key = ? AND GREATEST(theoretical_arrival, ?) - ? <= ?";
+    private static final String INSERT_BUCKET = "INSERT IGNORE INTO rate_limit_buckets "
+            + "(bucket_key, theoretical_arrival) VALUES (?, ?)";
+    private static final String DELETE_FULL_BUCKETS = "DELETE FROM rate_limit_buckets "
+            + "WHERE theoretical_arrival <= ?";
+    private static final int UPDATED_ROW_COUNT = 1;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryConsume(String clientKey, int capacity, long refillIntervalMillis) {
+        long now = System.currentTimeMillis();
+        long burstTolerance = refillIntervalMillis * (capacity - 1);
+        int updatedRows = jdbcTemplate.update(CONSUME_TOKEN,
+                now, refillIntervalMillis, clientKey, now, now, burstTolerance);
+        if (updatedRows == UPDATED_ROW_COUNT) {
+            return true;
+        }
+        // Either the bucket is empty or it doesn't exist yet
+        return jdbcTemplate.update(INSERT_BUCKET,
+                clientKey, now + refillIntervalMillis) == UPDATED_ROW_COUNT;
+    }
+
+    @Override
+    public void removeIdle() {
+        jdbcTemplate.update(DELETE_FULL_BUCKETS, System.currentTimeMillis());
+    }
+}
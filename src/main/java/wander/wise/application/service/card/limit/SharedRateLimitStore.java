@@ -0,0 +1,11 @@
+package wander.wise.application.service.card.limit;
+
+/**
+ * Rate limit state shared between application nodes. It is consulted only
+ * after the local bucket has let a request through
+ */
+public interface SharedRateLimitStore {
+    boolean tryConsume(String clientKey, int capacity, long refillIntervalMillis);
+
+    void removeIdle();
+}
@@ -0,0 +1,40 @@
+package wander.wise.application.service.card.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single theoretical arrival time, so taking a token
+ * is one compare-and-set. The bucket holds up to capacity tokens and gets
+ * a new one every refill interval
+ */
+class TokenBucket {
+    private final AtomicLong theoreticalArrival;
+    private final long refillIntervalNanos;
+    private final long burstToleranceNanos;
+
+    TokenBucket(int capacity, long refillIntervalNanos, long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstToleranceNanos = refillIntervalNanos * (capacity - 1);
+    }
+
+    boolean tryConsume(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long nextArrival = Math.max(arrival, nowNanos);
+            if (nextArrival - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, nextArrival + refillIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Full buckets behave exactly as new ones, so they can be dropped
+     */
+    boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,105 @@
+package wander.wise.application.service.card.pregeneration;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.service.card.CardService;
+
+/**
+ * Generates cards for popular searches with thin coverage during off-peak
+ * hours, so users rarely wait for generation. Each run generates at most
+ * max-generations-per-run times and pauses between generations. Runs take
+ * hours, so they go to their own thread and don't hold a scheduler thread.
+ * Combinations, that didn't fit into the run, wait for the next one
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardPregenerationScheduler {
+    private static final String[] AI_AUTHOR = {"AI"};
+    private final SearchDemandTracker searchDemandTracker;
+    private final CardService cardService;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("card-pregeneration-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    @Value("${cards.pregeneration.enabled:true}")
+    private boolean enabled;
+    @Value("${cards.pregeneration.min-searches:3}")
+    private int minSearches;
+    @Value("${cards.pregeneration.required-cards:30}")
+    private int requiredCards;
+    @Value("${cards.pregeneration.max-generations-per-run:20}")
+    private int maxGenerations;
+    @Value("${cards.pregeneration.pause-millis:30000}")
+    private long pauseMillis;
+
+    @Scheduled(cron = "${cards.pregeneration.cron:0 0 4 * * *}")
+    public void pregenerateCards() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("Skipping pre-generation, the previous run is still in progress");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                runPregeneration();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runPregeneration() {
+        List<SearchDemand> demands = searchDemandTracker.findMostDemanded(minSearches);
+        int generations = 0;
+        for (int i = 0; i < demands.size(); i++) {
+            if (generations >= maxGenerations) {
+                log.info("Pre-generation budget is spent, {} combinations are left "
+                        + "for the next run", demands.size() - i);
+                return;
+            }
+            SearchDemand demand = demands.get(i);
+            try {
+                boolean generated = cardService.pregenerateCards(
+                        toSearchParameters(demand), requiredCards);
+                searchDemandTracker.complete(demand);
+                if (generated) {
+                    generations++;
+                    Thread.sleep(pauseMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                searchDemandTracker.complete(demand);
+                log.warn("Pre-generation failed for {}", demand, e);
+            }
+        }
+    }
+
+    private static CardSearchParameters toSearchParameters(SearchDemand demand) {
+        return new CardSearchParameters(
+                demand.startLocation(),
+                new String[]{demand.tripType()},
+                new String[0],
+                new String[0],
+                new String[]{demand.travelDistance()},
+                AI_AUTHOR);
+    }
+}
@@ -0,0 +1,10 @@
+package wander.wise.application.service.card.pregeneration;
+
+/**
+ * Combination of search parameters, that pre-generation fills with cards
+ */
+public record SearchDemand(
+        String startLocation,
+        String tripType,
+        String travelDistance) {
+}
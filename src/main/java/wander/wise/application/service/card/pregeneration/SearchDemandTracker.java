@@ -0,0 +1,76 @@
+package wander.wise.application.service.card.pregeneration;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.card.CardSearchParameters;
+
+/**
+ * Counts searches, that may be completed with generated cards, since the
+ * last pre-generation run. New combinations are dropped once the limit is hit.
+ * Counts of demanded combinations are kept until pre-generation completes them
+ */
+@Component
+public class SearchDemandTracker {
+    private final Map<SearchDemand, LongAdder> searchesCount = new ConcurrentHashMap<>();
+    private final int maxCombinations;
+
+    public SearchDemandTracker(
+            @Value("${cards.pregeneration.max-tracked-combinations:10000}") int maxCombinations) {
+        this.maxCombinations = maxCombinations;
+    }
+
+    /**
+     * @param resolvedParameters parameters with resolved travel distance
+     */
+    public void record(CardSearchParameters resolvedParameters) {
+        if (resolvedParameters.tripTypes() == null
+                || resolvedParameters.travelDistance() == null
+                || resolvedParameters.travelDistance()[0].isBlank()) {
+            return;
+        }
+        for (String tripType : resolvedParameters.tripTypes()) {
+            SearchDemand demand = new SearchDemand(
+                    resolvedParameters.startLocation().trim(),
+                    tripType,
+                    resolvedParameters.travelDistance()[0].trim());
+            LongAdder count = searchesCount.get(demand);
+            if (count == null && searchesCount.size() < maxCombinations) {
+                count = searchesCount.computeIfAbsent(demand, key -> new LongAdder());
+            }
+            if (count != null) {
+                count.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns combinations, that were searched at least minSearches times,
+     * most demanded first. Less demanded combinations start counting from
+     * scratch, the returned ones keep counting until they are completed
+     */
+    public List<SearchDemand> findMostDemanded(int minSearches) {
+        List<Map.Entry<SearchDemand, Long>> demands = searchesCount.entrySet()
+                .stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() >= minSearches)
+                .sorted(Map.Entry.<SearchDemand, Long>comparingByValue(Comparator.reverseOrder()))
+                .toList();
+        searchesCount.values().removeIf(count -> count.sum() < minSearches);
+        return demands.stream()
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Starts counting the combination from scratch once pre-generation
+     * has handled it
+     */
+    public void complete(SearchDemand demand) {
+        searchesCount.remove(demand);
+    }
+}
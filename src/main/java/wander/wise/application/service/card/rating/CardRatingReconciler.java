@@ -0,0 +1,51 @@
+package wander.wise.application.service.card.rating;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import wander.wise.application.repository.card.rating.CardRatingRepository;
+import wander.wise.application.service.card.cache.CardDetailsCache;
+
+/**
+ * Rating aggregates are kept up to date by comment changes. This job
+ * recounts them by id ranges and fixes drift, e.g. after comments were
+ * written past the service
+ */
+@Slf4j
+@Component
+public class CardRatingReconciler {
+    private final CardRatingRepository cardRatingRepository;
+    private final CardDetailsCache cardDetailsCache;
+    private final Counter fixedCardsCounter;
+    private final int batchSize;
+
+    public CardRatingReconciler(
+            CardRatingRepository cardRatingRepository,
+            CardDetailsCache cardDetailsCache,
+            MeterRegistry meterRegistry,
+            @Value("${cards.ratings.reconcile-batch-size:1000}") int batchSize) {
+        this.cardRatingRepository = cardRatingRepository;
+        this.cardDetailsCache = cardDetailsCache;
+        this.fixedCardsCounter = Counter.builder("cards.ratings.reconciled")
+                .description("Cards, which rating aggregates had drifted")
+                .register(meterRegistry);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${cards.ratings.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        long maxId = cardRatingRepository.findMaxCardId();
+        long fixedCards = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            fixedCards += cardRatingRepository.reconcile(fromId, fromId + batchSize - 1);
+        }
+        if (fixedCards > 0) {
+            log.warn("Fixed rating aggregates of {} cards", fixedCards);
+            fixedCardsCounter.increment(fixedCards);
+            cardDetailsCache.evictAll();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package wander.wise.application.service.card.transfer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import wander.wise.application.dto.card.CardImportResultDto;
+
+public interface CardTransferService {
+    /**
+     * Reads cards line by line and saves them in batches, replacing cards
+     * with the same full name. Batches are committed one by one
+     */
+    CardImportResultDto importCards(InputStream ndjson);
+
+    void exportCards(OutputStream ndjson);
+}
@@ -0,0 +1,236 @@
+package wander.wise.application.service.card.transfer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import wander.wise.application.dto.card.CardImportResultDto;
+import wander.wise.application.dto.card.CardTransferDto;
+import wander.wise.application.dto.maps.LocationDto;
+import wander.wise.application.exception.custom.CardTransferException;
+import wander.wise.application.mapper.CardMapper;
+import wander.wise.application.model.Card;
+import wander.wise.application.repository.card.batch.CardBatchRepository;
+import wander.wise.application.service.api.maps.MapsApiService;
+import wander.wise.application.service.card.cache.CardDetailsCache;
+import wander.wise.application.service.card.cache.CardSearchCache;
+
+import static wander.wise.application.constants.GlobalConstants.DIVIDER;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardTransferServiceImpl implements CardTransferService {
+    private static final byte LINE_SEPARATOR = '\n';
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CardMapper cardMapper;
+    private final CardBatchRepository cardBatchRepository;
+    private final MapsApiService mapsApiService;
+    private final CardSearchCache cardSearchCache;
+    private final CardDetailsCache cardDetailsCache;
+    @Value("${cards.import.batch-size:500}")
+    private int batchSize;
+    @Value("${cards.import.geocode-parallelism:8}")
+    private int geocodeParallelism;
+    @Value("${cards.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Override
+    public CardImportResultDto importCards(InputStream ndjson) {
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+        ObjectReader cardReader = objectMapper.readerFor(CardTransferDto.class);
+        ExecutorService geocodeExecutor = Executors.newFixedThreadPool(
+                geocodeParallelism,
+                new CustomizableThreadFactory("card-import-"));
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            List<CardTransferDto> batch = new ArrayList<>(batchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                CardTransferDto transferDto = parse(cardReader, line, lineNumber, progress);
+                if (transferDto != null) {
+                    batch.add(transferDto);
+                }
+                if (batch.size() == batchSize) {
+                    saveBatch(batch, geocodeExecutor, progress);
+                    batch.clear();
+                }
+            }
+            saveBatch(batch, geocodeExecutor, progress);
+        } catch (IOException e) {
+            throw new CardTransferException("Couldn't read imported cards", e);
+        } finally {
+            geocodeExecutor.shutdownNow();
+            cardSearchCache.evictAll();
+            cardDetailsCache.evictAll();
+        }
+        return progress.toResultDto();
+    }
+
+    @Override
+    public void exportCards(OutputStream ndjson) {
+        ObjectWriter cardWriter = objectMapper.writerFor(CardTransferDto.class);
+        cardBatchRepository.forEachCard(card -> {
+            try {
+                ndjson.write(cardWriter.writeValueAsBytes(cardMapper.toTransferDto(card)));
+                ndjson.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new CardTransferException("Couldn't write exported cards", e);
+            }
+        });
+    }
+
+    private CardTransferDto parse(
+            ObjectReader cardReader,
+            String line,
+            long lineNumber,
+            ImportProgress progress) {
+        CardTransferDto transferDto;
+        try {
+            transferDto = cardReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.invalid(lineNumber, e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<CardTransferDto>> violations = validator.validate(transferDto);
+        if (!violations.isEmpty()) {
+            progress.invalid(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " "
+                            + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return transferDto;
+    }
+
+    private void saveBatch(
+            List<CardTransferDto> batch,
+            ExecutorService geocodeExecutor,
+            ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Future<Card>> geocodedCards = batch.stream()
+                .map(transferDto -> geocodeExecutor.submit(() -> toCard(transferDto)))
+                .toList();
+        List<Card> cards = new ArrayList<>(batch.size());
+        for (int i = 0; i < geocodedCards.size(); i++) {
+            Card card = getGeocodedCard(geocodedCards.get(i), batch.get(i), progress);
+            if (card != null) {
+                cards.add(card);
+            }
+        }
+        cardBatchRepository.upsertAllByFullName(cards);
+        progress.imported(cards.size());
+    }
+
+    private Card toCard(CardTransferDto transferDto) {
+        Card card = cardMapper.transferDtoToCard(transferDto);
+        if (transferDto.latitude() != null && transferDto.longitude() != null
+                && transferDto.mapLink() != null) {
+            return card;
+        }
+        LocationDto locationDto = mapsApiService.getMapsResponseByLocationName(
+                getSearchKey(transferDto.fullName()));
+        if (locationDto.latitude() == 0 && locationDto.longitude() == 0) {
+            return null;
+        }
+        card.setMapLink(locationDto.mapLink());
+        card.setLatitude(locationDto.latitude());
+        card.setLongitude(locationDto.longitude());
+        return card;
+    }
+
+    private static Card getGeocodedCard(
+            Future<Card> geocodedCard,
+            CardTransferDto transferDto,
+            ImportProgress progress) {
+        try {
+            Card card = geocodedCard.get();
+            if (card == null) {
+                progress.notGeocoded(transferDto.fullName(), "location wasn't found");
+            }
+            return card;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CardTransferException("Card import was interrupted", e);
+        } catch (ExecutionException e) {
+            log.warn("Couldn't geocode imported card {}", transferDto.fullName(), e.getCause());
+            progress.notGeocoded(transferDto.fullName(), e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private static String getSearchKey(String fullName) {
+        String[] searchKeyArray = fullName.split(DIVIDER);
+        return searchKeyArray[0] + " " + searchKeyArray[1];
+    }
+
+    /**
+     * Counts import outcomes, keeping only the first error messages, so
+     * memory doesn't grow with the input
+     */
+    private static class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<String> errors = new ArrayList<>();
+        private long imported;
+        private long invalid;
+        private long notGeocoded;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void imported(int count) {
+            imported += count;
+        }
+
+        void invalid(long lineNumber, String message) {
+            invalid++;
+            report("Line " + lineNumber + ": " + message);
+        }
+
+        void notGeocoded(String fullName, String message) {
+            notGeocoded++;
+            report(fullName + ": " + Objects.requireNonNullElse(message, "geocoding failed"));
+        }
+
+        CardImportResultDto toResultDto() {
+            return new CardImportResultDto(imported, invalid, notGeocoded, List.copyOf(errors));
+        }
+
+        private void report(String error) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package wander.wise.application.service.card.trending;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Cards with the highest scores, at most capacity of them. A new card
+ * gets in only by outscoring the lowest one. Not thread-safe, changed
+ * only by the engine's writer thread
+ */
+class TrendingBoard {
+    private static final Comparator<ScoredCard> BY_SCORE = Comparator
+            .comparingDouble(ScoredCard::score)
+            .thenComparing(ScoredCard::cardId);
+    private final int capacity;
+    private final Map<Long, ScoredCard> byCardId = new HashMap<>();
+    private final TreeSet<ScoredCard> ranking = new TreeSet<>(BY_SCORE);
+
+    TrendingBoard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return false if the board didn't change
+     */
+    boolean add(Long cardId, double score) {
+        ScoredCard previous = byCardId.remove(cardId);
+        if (previous != null) {
+            ranking.remove(previous);
+            score += previous.score();
+        } else if (byCardId.size() >= capacity) {
+            ScoredCard lowest = ranking.first();
+            if (lowest.score() >= score) {
+                return false;
+            }
+            ranking.pollFirst();
+            byCardId.remove(lowest.cardId());
+        }
+        ScoredCard scoredCard = new ScoredCard(cardId, score);
+        byCardId.put(cardId, scoredCard);
+        ranking.add(scoredCard);
+        return true;
+    }
+
+    boolean remove(Long cardId) {
+        ScoredCard removed = byCardId.remove(cardId);
+        return removed != null && ranking.remove(removed);
+    }
+
+    /**
+     * Multiplies all scores by the factor and drops cards, that fall
+     * below the minimal score
+     */
+    void rescale(double factor, double minScore) {
+        List<ScoredCard> rescaled = ranking.stream()
+                .map(scoredCard -> new ScoredCard(
+                        scoredCard.cardId(),
+                        scoredCard.score() * factor))
+                .filter(scoredCard -> scoredCard.score() >= minScore)
+                .toList();
+        byCardId.clear();
+        ranking.clear();
+        rescaled.forEach(scoredCard -> {
+            byCardId.put(scoredCard.cardId(), scoredCard);
+            ranking.add(scoredCard);
+        });
+    }
+
+    List<ScoredCard> top(int limit) {
+        List<ScoredCard> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<ScoredCard> iterator = ranking.descendingIterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            top.add(iterator.next());
+        }
+        return top;
+    }
+
+    Collection<ScoredCard> cards() {
+        return byCardId.values();
+    }
+
+    boolean isEmpty() {
+        return byCardId.isEmpty();
+    }
+
+    record ScoredCard(Long cardId, double score) {
+    }
+}
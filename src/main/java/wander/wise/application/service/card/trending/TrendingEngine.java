@@ -0,0 +1,322 @@
+package wander.wise.application.service.card.trending;
+
+import static wander.wise.application.constants.GlobalConstants.DIVIDER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import wander.wise.application.dto.card.CardNameDto;
+import wander.wise.application.dto.card.TrendingCardDto;
+import wander.wise.application.repository.card.CardRepository;
+import wander.wise.application.repository.trending.TrendingScoreRepository;
+
+/**
+ * Keeps trending cards of the whole world, every continent and every
+ * region in memory. Events are weighted and exponentially decayed with
+ * the half-life. Scores are kept relative to an epoch, so an event only
+ * adds to one card, and are rebased to a new epoch on every snapshot.
+ * Boards are changed by a single writer, readers get immutable tops, that
+ * the writer publishes after every change
+ */
+@Slf4j
+@Component
+public class TrendingEngine {
+    private static final String GLOBAL_BOARD = "global";
+    private static final String CONTINENT_BOARD_PREFIX = "continent:";
+    private static final String REGION_BOARD_PREFIX = "region:";
+    private static final int REGION_INDEX = 2;
+    private static final int CONTINENT_INDEX = 4;
+    private final TrendingEventBuffer trendingEventBuffer;
+    private final CardRepository cardRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final Queue<Long> removedCardIds = new ConcurrentLinkedQueue<>();
+    private final Map<String, TrendingBoard> boards = new HashMap<>();
+    private final Map<Long, TrendingCard> cards = new HashMap<>();
+    private final double halfLifeMillis;
+    private final int boardCapacity;
+    private final int maxLimit;
+    private final double minScore;
+    private final long snapshotIntervalMillis;
+    private volatile Leaderboards leaderboards =
+            new Leaderboards(Map.of(), System.currentTimeMillis());
+    private long epochMillis;
+    private long lastSnapshotMillis;
+    private boolean restored;
+
+    public TrendingEngine(
+            TrendingEventBuffer trendingEventBuffer,
+            CardRepository cardRepository,
+            TrendingScoreRepository trendingScoreRepository,
+            @Value("${cards.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${cards.trending.board-capacity:200}") int boardCapacity,
+            @Value("${cards.trending.max-limit:50}") int maxLimit,
+            @Value("${cards.trending.min-score:0.01}") double minScore,
+            @Value("${cards.trending.snapshot-interval-millis:300000}")
+            long snapshotIntervalMillis) {
+        this.trendingEventBuffer = trendingEventBuffer;
+        this.cardRepository = cardRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+        this.boardCapacity = Math.max(boardCapacity, maxLimit);
+        this.maxLimit = maxLimit;
+        this.minScore = minScore;
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+    }
+
+    /**
+     * Inside a transaction the event is published after the commit,
+     * so rolled back likes, saves and comments don't score
+     */
+    public void record(Long cardId, TrendingEvent.Type type) {
+        TrendingEvent event = TrendingEvent.of(cardId, type);
+        runAfterCommit(() -> trendingEventBuffer.publish(event));
+    }
+
+    /**
+     * For hidden and deleted cards. Inside a transaction the card is removed
+     * after the commit, so a rolled back hide or delete keeps it trending
+     */
+    public void remove(Long cardId) {
+        runAfterCommit(() -> removedCardIds.add(cardId));
+    }
+
+    /**
+     * Region takes precedence over continent, without both the whole
+     * world is used. Served from the last published tops only
+     */
+    public List<TrendingCardDto> findTrending(String continent, String region, int limit) {
+        Leaderboards current = leaderboards;
+        double decay = decayFactor(System.currentTimeMillis() - current.epochMillis());
+        return current.tops()
+                .getOrDefault(toBoardKey(continent, region), List.of())
+                .stream()
+                .limit(Math.max(0, Math.min(limit, maxLimit)))
+                .map(rankedCard -> new TrendingCardDto(
+                        rankedCard.card().id(),
+                        rankedCard.card().name(),
+                        rankedCard.card().whereIs(),
+                        rankedCard.score() * decay))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${cards.trending.apply-interval-millis:1000}")
+    public void apply() {
+        long now = System.currentTimeMillis();
+        if (!restored) {
+            restore(now);
+            restored = true;
+            publish(boards.keySet());
+        }
+        Set<String> changedBoards = new HashSet<>();
+        applyEvents(trendingEventBuffer.drain(), changedBoards);
+        applyRemovals(changedBoards);
+        if (now - lastSnapshotMillis >= snapshotIntervalMillis) {
+            rebase(now);
+            snapshot(now);
+            lastSnapshotMillis = now;
+            changedBoards.addAll(boards.keySet());
+        }
+        if (!changedBoards.isEmpty()) {
+            publish(changedBoards);
+        }
+    }
+
+    private void applyEvents(List<TrendingEvent> events, Set<String> changedBoards) {
+        if (events.isEmpty()) {
+            return;
+        }
+        loadCards(events.stream()
+                .map(TrendingEvent::cardId)
+                .filter(cardId -> !cards.containsKey(cardId))
+                .collect(Collectors.toSet()));
+        events.forEach(event -> {
+            TrendingCard card = cards.get(event.cardId());
+            if (card != null) {
+                double score = event.type().weight()
+                        / decayFactor(event.createdAtMillis() - epochMillis);
+                addToBoards(card, score, changedBoards);
+            }
+        });
+    }
+
+    private void applyRemovals(Set<String> changedBoards) {
+        Long removedCardId;
+        while ((removedCardId = removedCardIds.poll()) != null) {
+            TrendingCard card = cards.remove(removedCardId);
+            if (card == null) {
+                continue;
+            }
+            for (String boardKey : card.boardKeys()) {
+                TrendingBoard board = boards.get(boardKey);
+                if (board != null && board.remove(removedCardId)) {
+                    changedBoards.add(boardKey);
+                }
+            }
+        }
+    }
+
+    private void loadCards(Set<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return;
+        }
+        try {
+            cardRepository.findShownNamesByIds(cardIds).forEach(cardName -> cards.put(
+                    cardName.id(),
+                    toTrendingCard(cardName.id(), cardName.fullName())));
+        } catch (RuntimeException e) {
+            log.warn("Couldn't load {} cards, their trending events are skipped",
+                    cardIds.size(), e);
+        }
+    }
+
+    private void addToBoards(TrendingCard card, double score, Set<String> changedBoards) {
+        for (String boardKey : card.boardKeys()) {
+            TrendingBoard board = boards.computeIfAbsent(
+                    boardKey,
+                    key -> new TrendingBoard(boardCapacity));
+            if (board.add(card.id(), score)) {
+                changedBoards.add(boardKey);
+            }
+        }
+    }
+
+    /**
+     * Moves scores to the new epoch, so they never overflow, and forgets
+     * cards, that have decayed below the minimal score
+     */
+    private void rebase(long now) {
+        double factor = decayFactor(now - epochMillis);
+        boards.values().forEach(board -> board.rescale(factor, minScore));
+        boards.values().removeIf(TrendingBoard::isEmpty);
+        epochMillis = now;
+        Set<Long> rankedCardIds = boards.values()
+                .stream()
+                .flatMap(board -> board.cards().stream())
+                .map(TrendingBoard.ScoredCard::cardId)
+                .collect(Collectors.toSet());
+        cards.keySet().retainAll(rankedCardIds);
+    }
+
+    private void snapshot(long now) {
+        Map<Long, Double> scores = new HashMap<>();
+        boards.values().forEach(board -> board.cards().forEach(scoredCard -> scores.merge(
+                scoredCard.cardId(),
+                scoredCard.score(),
+                Math::max)));
+        try {
+            trendingScoreRepository.replaceAll(scores.entrySet()
+                    .stream()
+                    .map(score -> new TrendingScore(score.getKey(), null, score.getValue(), now))
+                    .toList());
+        } catch (RuntimeException e) {
+            log.warn("Couldn't save snapshot of {} trending scores", scores.size(), e);
+        }
+    }
+
+    private void restore(long now) {
+        epochMillis = now;
+        lastSnapshotMillis = now;
+        try {
+            trendingScoreRepository.findAllOfShownCards().forEach(score -> {
+                TrendingCard card = toTrendingCard(score.cardId(), score.fullName());
+                cards.put(card.id(), card);
+                addToBoards(
+                        card,
+                        score.score() * decayFactor(now - score.scoredAtMillis()),
+                        new HashSet<>());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Couldn't restore trending scores, starting from scratch", e);
+        }
+    }
+
+    private void publish(Set<String> changedBoards) {
+        Map<String, List<RankedCard>> tops = new HashMap<>(leaderboards.tops());
+        changedBoards.forEach(boardKey -> {
+            TrendingBoard board = boards.get(boardKey);
+            if (board == null) {
+                tops.remove(boardKey);
+            } else {
+                tops.put(boardKey, board.top(maxLimit)
+                        .stream()
+                        .map(scoredCard -> new RankedCard(
+                                cards.get(scoredCard.cardId()),
+                                scoredCard.score()))
+                        .toList());
+            }
+        });
+        tops.keySet().retainAll(boards.keySet());
+        leaderboards = new Leaderboards(Map.copyOf(tops), epochMillis);
+    }
+
+    private double decayFactor(long elapsedMillis) {
+        return Math.pow(2, -elapsedMillis / halfLifeMillis);
+    }
+
+    private static TrendingCard toTrendingCard(Long id, String fullName) {
+        String[] nameParts = fullName.split(DIVIDER);
+        List<String> boardKeys = new ArrayList<>(List.of(GLOBAL_BOARD));
+        if (nameParts.length > CONTINENT_INDEX) {
+            boardKeys.add(CONTINENT_BOARD_PREFIX + normalize(nameParts[CONTINENT_INDEX]));
+        }
+        if (nameParts.length > REGION_INDEX) {
+            boardKeys.add(REGION_BOARD_PREFIX + normalize(nameParts[REGION_INDEX]));
+        }
+        return new TrendingCard(
+                id,
+                nameParts[0],
+                String.join(", ", Arrays.copyOfRange(nameParts, 1, nameParts.length)),
+                List.copyOf(boardKeys));
+    }
+
+    private static String toBoardKey(String continent, String region) {
+        if (region != null && !region.isBlank()) {
+            return REGION_BOARD_PREFIX + normalize(region);
+        }
+        if (continent != null && !continent.isBlank()) {
+            return CONTINENT_BOARD_PREFIX + normalize(continent);
+        }
+        return GLOBAL_BOARD;
+    }
+
+    private static String normalize(String namePart) {
+        return namePart.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+
+    private record TrendingCard(Long id, String name, String whereIs, List<String> boardKeys) {
+    }
+
+    private record RankedCard(TrendingCard card, double score) {
+    }
+
+    private record Leaderboards(Map<String, List<RankedCard>> tops, long epochMillis) {
+    }
+}
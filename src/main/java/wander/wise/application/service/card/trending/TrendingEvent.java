@@ -0,0 +1,27 @@
+package wander.wise.application.service.card.trending;
+
+public record TrendingEvent(
+        Long cardId,
+        Type type,
+        long createdAtMillis) {
+    public static TrendingEvent of(Long cardId, Type type) {
+        return new TrendingEvent(cardId, type, System.currentTimeMillis());
+    }
+
+    public enum Type {
+        VIEW(1),
+        COMMENT(3),
+        SAVE(4),
+        LIKE(5);
+
+        private final double weight;
+
+        Type(double weight) {
+            this.weight = weight;
+        }
+
+        public double weight() {
+            return weight;
+        }
+    }
+}
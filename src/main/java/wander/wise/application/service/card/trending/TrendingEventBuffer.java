@@ -0,0 +1,18 @@
+package wander.wise.application.service.card.trending;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import wander.wise.application.service.card.event.RingBuffer;
+
+/**
+ * Buffers trending events between request threads and the trending engine
+ */
+@Component
+public class TrendingEventBuffer extends RingBuffer<TrendingEvent> {
+    public TrendingEventBuffer(
+            @Value("${cards.trending.buffer-capacity:16384}") int capacity,
+            MeterRegistry meterRegistry) {
+        super(capacity, "cards.trending.events.dropped", meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package wander.wise.application.service.card.trending;
+
+/**
+ * Score of a card, decayed to the moment it was saved at
+ */
+public record TrendingScore(
+        Long cardId,
+        String fullName,
+        double score,
+        long scoredAtMillis) {
+}
@@ -1,14 +1,23 @@
 package wander.wise.application.service.collection;
 
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import wander.wise.application.dto.card.CardDto;
 import wander.wise.application.dto.collection.CollectionDto;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
 import wander.wise.application.dto.collection.CreateCollectionRequestDto;
 import wander.wise.application.dto.collection.UpdateCollectionRequestDto;
+import wander.wise.application.dto.version.VersionDto;
 
 public interface CollectionService {
     CollectionWithoutCardsDto save(String email, CreateCollectionRequestDto requestDto);
 
-    CollectionDto findById(Long id, String email);
+    CollectionWithoutCardsDto findById(Long id, String email);
+
+    List<CardDto> findCards(Long id, String email, Pageable pageable);
+
+    Optional<VersionDto> findVersionById(Long id, String email);
 
     CollectionDto updateById(Long id, String email, UpdateCollectionRequestDto requestDto);
 
@@ -1,20 +1,29 @@
 package wander.wise.application.service.collection;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import wander.wise.application.constants.GlobalConstants;
+import wander.wise.application.dto.card.CardDto;
 import wander.wise.application.dto.collection.CollectionDto;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
 import wander.wise.application.dto.collection.CreateCollectionRequestDto;
 import wander.wise.application.dto.collection.UpdateCollectionRequestDto;
+import wander.wise.application.dto.version.CollectionVersionDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.exception.custom.AuthorizationException;
+import wander.wise.application.mapper.CardMapper;
 import wander.wise.application.mapper.CollectionMapper;
 import wander.wise.application.model.Card;
 import wander.wise.application.model.Collection;
 import wander.wise.application.model.User;
+import wander.wise.application.repository.card.CardRepository;
 import wander.wise.application.repository.collection.CollectionRepository;
 import wander.wise.application.service.user.UserService;
 
@@ -25,6 +34,9 @@ import static wander.wise.application.constants.GlobalConstants.DIVIDER;
 public class CollectionServiceImpl implements CollectionService {
     private final CollectionRepository collectionRepository;
     private final CollectionMapper collectionMapper;
+    private final CollectionSummaryLoader collectionSummaryLoader;
+    private final CardRepository cardRepository;
+    private final CardMapper cardMapper;
     private final UserService userService;
 
     @Override
@@ -37,16 +49,35 @@ public class CollectionServiceImpl implements CollectionService {
     }
 
     @Override
-    public CollectionDto findById(Long id, String email) {
-        Collection foudCollection = collectionRepository.findById(id)
+    @Transactional(readOnly = true)
+    public CollectionWithoutCardsDto findById(Long id, String email) {
+        checkAccess(id, email);
+        return collectionSummaryLoader.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find collection by id: " + id));
-        if (foudCollection.isPublic() || foudCollection.getUser().getEmail().equals(email)) {
-            return collectionMapper.toDto(foudCollection);
-        } else {
-            throw new AuthorizationException("You don't have access for this collection. "
-                    + "Ask it's owner to make it public.");
-        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CardDto> findCards(Long id, String email, Pageable pageable) {
+        checkAccess(id, email);
+        return cardRepository.findAllByCollectionId(id, pageable)
+                .stream()
+                .map(cardMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Returns nothing for collections, that the user can't access,
+     * so their requests go the regular way
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionDto> findVersionById(Long id, String email) {
+        return collectionRepository.findVersionById(id)
+                .filter(collectionVersion -> collectionVersion.isPublic()
+                        || collectionVersion.ownerEmail().equals(email))
+                .map(VersionDto::of);
     }
 
     @Override
@@ -61,7 +92,9 @@ public class CollectionServiceImpl implements CollectionService {
                 && !collection.getName().equals("Saved cards")) {
             collection = collectionMapper.updateCollectionFromDto(collection, requestDto);
             collection.setPublic(requestDto.isPublic());
-            return collectionMapper.toDto(collectionRepository.save(collection));
+            Collection savedCollection = collectionRepository.save(collection);
+            collectionRepository.incrementVersion(id, LocalDateTime.now());
+            return collectionMapper.toDto(savedCollection);
         } else {
             throw new AuthorizationException("Access denied. You can't "
                     + "change default collections.");
@@ -84,4 +117,14 @@ public class CollectionServiceImpl implements CollectionService {
                     + "delete default collections.");
         }
     }
+
+    private void checkAccess(Long id, String email) {
+        CollectionVersionDto collectionVersion = collectionRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Can't find collection by id: " + id));
+        if (!collectionVersion.isPublic() && !collectionVersion.ownerEmail().equals(email)) {
+            throw new AuthorizationException("You don't have access for this collection. "
+                    + "Ask it's owner to make it public.");
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package wander.wise.application.service.collection;
+
+import static wander.wise.application.constants.GlobalConstants.DIVIDER;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import wander.wise.application.dto.collection.CollectionCoverDto;
+import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
+import wander.wise.application.repository.collection.CollectionRepository;
+
+/**
+ * Builds collections without cards from projections, so their cost doesn't
+ * depend on the number of cards. Collections without own image get the
+ * first image of their first card
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionSummaryLoader {
+    private final CollectionRepository collectionRepository;
+
+    public List<CollectionWithoutCardsDto> findAllByUserId(Long userId) {
+        return initializeImageLinks(collectionRepository.findSummariesByUserId(userId));
+    }
+
+    public Optional<CollectionWithoutCardsDto> findById(Long id) {
+        return collectionRepository.findSummaryById(id)
+                .map(summary -> initializeImageLinks(List.of(summary)).get(0));
+    }
+
+    private List<CollectionWithoutCardsDto> initializeImageLinks(
+            List<CollectionWithoutCardsDto> summaries) {
+        List<Long> withoutImageIds = summaries.stream()
+                .filter(summary -> summary.imageLink() == null && summary.cardsCount() > 0)
+                .map(CollectionWithoutCardsDto::id)
+                .toList();
+        if (withoutImageIds.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, String> imageLinks = collectionRepository.findCoversByIds(withoutImageIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        CollectionCoverDto::collectionId,
+                        cover -> cover.imageLinks().split(DIVIDER)[0]));
+        return summaries.stream()
+                .map(summary -> imageLinks.containsKey(summary.id())
+                        ? summary.withImageLink(imageLinks.get(summary.id()))
+                        : summary)
+                .toList();
+    }
+}
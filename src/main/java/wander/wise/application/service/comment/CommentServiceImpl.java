@@ -12,22 +12,28 @@ import wander.wise.application.dto.comment.ReportCommentRequestDto;
 import wander.wise.application.exception.custom.AuthorizationException;
 import wander.wise.application.mapper.CommentMapper;
 import wander.wise.application.model.Comment;
+import wander.wise.application.model.Report;
 import wander.wise.application.model.User;
+import wander.wise.application.repository.card.CardRepository;
 import wander.wise.application.repository.comment.CommentRepository;
 import wander.wise.application.repository.user.UserRepository;
-import wander.wise.application.service.api.email.EmailService;
+import wander.wise.application.service.card.cache.CardDetailsCache;
+import wander.wise.application.service.card.trending.TrendingEngine;
+import wander.wise.application.service.card.trending.TrendingEvent;
+import wander.wise.application.service.report.ReportService;
 import wander.wise.application.service.user.UserService;
 
-import static wander.wise.application.constants.GlobalConstants.SEPARATOR;
-
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
+    private final CardRepository cardRepository;
     private final CommentMapper commentMapper;
-    private final EmailService emailService;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final CardDetailsCache cardDetailsCache;
+    private final ReportService reportService;
+    private final TrendingEngine trendingEngine;
 
     @Override
     @Transactional
@@ -37,6 +43,14 @@ public class CommentServiceImpl implements CommentService {
             Comment newComment = commentMapper.toModel(requestDto);
             newComment.setTimeStamp(LocalDateTime.now());
             newComment.setUser(user);
+            cardRepository.addToRatings(
+                    requestDto.cardId(),
+                    1,
+                    ratingCountOf(newComment.getStars()),
+                    ratingSumOf(newComment.getStars()),
+                    LocalDateTime.now());
+            cardDetailsCache.evict(requestDto.cardId());
+            trendingEngine.record(requestDto.cardId(), TrendingEvent.Type.COMMENT);
             return commentMapper.toDto(commentRepository.save(newComment));
         } else {
             throw new AuthorizationException("Access denied. User is banned.");
@@ -50,34 +64,29 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Can't find comment by id: " + id));
         userService.findUserAndAuthorize(updatedComment.getUser().getId(), email);
+        Integer previousStars = updatedComment.getStars();
         updatedComment = commentMapper.updateCommentFromDto(updatedComment, requestDto);
+        cardRepository.addToRatings(
+                updatedComment.getCard().getId(),
+                0,
+                ratingCountOf(updatedComment.getStars()) - ratingCountOf(previousStars),
+                ratingSumOf(updatedComment.getStars()) - ratingSumOf(previousStars),
+                LocalDateTime.now());
+        cardDetailsCache.evict(updatedComment.getCard().getId());
         return commentMapper.toDto(commentRepository.save(updatedComment));
     }
 
     @Override
     @Transactional
     public void report(Long id, String email, ReportCommentRequestDto requestDto) {
-        Comment reportedComment = commentRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "Can't find comment by id: " + id));
-        reportedComment.setReports(reportedComment.getReports() + 1);
-        String message = new StringBuilder()
-                .append("User email: ").append(email)
-                .append(SEPARATOR)
-                .append("Comment author: ").append(requestDto.commentAuthor())
-                .append(SEPARATOR)
-                .append("Comment text: ").append(requestDto.commentText())
-                .append(SEPARATOR)
-                .append("Report text: ").append(requestDto.reportText())
-                .append(SEPARATOR)
-                .append("Comment was reported: ")
-                .append(reportedComment.getReports()).append(" times")
-                .toString();
-        emailService.sendEmail(
-                "budzetbudzet4@gmail.com",
-                "Report for comment",
-                message);
-        commentRepository.save(reportedComment);
+        if (!commentRepository.existsById(id)) {
+            throw new EntityNotFoundException("Can't find comment by id: " + id);
+        }
+        reportService.report(
+                Report.TargetType.COMMENT,
+                id,
+                email,
+                requestDto.reportText());
     }
 
     @Override
@@ -91,9 +100,24 @@ public class CommentServiceImpl implements CommentService {
                 || deletingUser.getEmail().equals(email)) {
             userService.findUserAndAuthorize(deletedComment.getUser().getId(), email);
             commentRepository.deleteById(id);
+            cardRepository.addToRatings(
+                    deletedComment.getCard().getId(),
+                    -1,
+                    -ratingCountOf(deletedComment.getStars()),
+                    -ratingSumOf(deletedComment.getStars()),
+                    LocalDateTime.now());
+            cardDetailsCache.evict(deletedComment.getCard().getId());
         } else {
             throw new AuthorizationException("Access denied. You can't "
                     + "delete comments of this user");
         }
     }
+
+    private static long ratingCountOf(Integer stars) {
+        return stars == null ? 0 : 1;
+    }
+
+    private static long ratingSumOf(Integer stars) {
+        return stars == null ? 0 : stars;
+    }
 }
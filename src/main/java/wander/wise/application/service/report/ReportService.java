@@ -0,0 +1,19 @@
+package wander.wise.application.service.report;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import wander.wise.application.dto.report.ReportSummaryDto;
+import wander.wise.application.model.Report;
+
+public interface ReportService {
+    /**
+     * Appends a report without touching the reported entity
+     *
+     * @return number of users with unresolved reports of the target
+     */
+    long report(Report.TargetType targetType, Long targetId, String email, String text);
+
+    List<ReportSummaryDto> findUnresolved(Report.TargetType targetType, Pageable pageable);
+
+    boolean resolve(Report.TargetType targetType, Long targetId);
+}
@@ -0,0 +1,46 @@
+package wander.wise.application.service.report;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import wander.wise.application.dto.report.ReportSummaryDto;
+import wander.wise.application.model.Report;
+import wander.wise.application.repository.report.ReportRepository;
+
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+    private static final int MAX_TEXT_LENGTH = 1000;
+    private final ReportRepository reportRepository;
+
+    @Override
+    @Transactional
+    public long report(Report.TargetType targetType, Long targetId, String email, String text) {
+        Report report = new Report();
+        report.setTargetType(targetType);
+        report.setTargetId(targetId);
+        report.setReporterEmail(email);
+        report.setText(text.length() > MAX_TEXT_LENGTH
+                ? text.substring(0, MAX_TEXT_LENGTH)
+                : text);
+        report.setCreatedAt(LocalDateTime.now());
+        reportRepository.save(report);
+        return reportRepository.countUnresolvedReporters(targetType, targetId);
+    }
+
+    @Override
+    public List<ReportSummaryDto> findUnresolved(
+            Report.TargetType targetType,
+            Pageable pageable) {
+        return reportRepository.findUnresolvedSummaries(targetType, pageable);
+    }
+
+    @Override
+    @Transactional
+    public boolean resolve(Report.TargetType targetType, Long targetId) {
+        return reportRepository.resolveAll(targetType, targetId) > 0;
+    }
+}
@@ -0,0 +1,191 @@
+package wander.wise.application.service.seed;
+
+import static wander.wise.application.constants.AiApiServiceConstants.CLIMATE_LIST;
+import static wander.wise.application.constants.AiApiServiceConstants.TRIP_TYPES_LIST;
+import static wander.wise.application.constants.GlobalConstants.DIVIDER;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import wander.wise.application.service.card.rating.CardRatingReconciler;
+
+/**
+ * Fills an empty database with a synthetic catalog for load tests. Every seeded
+ * user gets the default collections and "password" as a password. Rows are
+ * written with batched JDBC inserts, the same random seed gives the same data
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class CatalogSeeder implements ApplicationRunner {
+    private static final String SEED_PASSWORD = "password";
+    private static final String[] COLLECTION_NAMES = {"Liked cards", "Created cards",
+            "Saved cards"};
+    private static final String[] SPECIAL_REQUIREMENTS = {"With pets", "With kids",
+            "LGBTQ friendly", "Disability"};
+    private static final String[][] PLACES = {
+            {"Kyiv", "Kyiv Oblast", "Ukraine", "Europe"},
+            {"Lviv", "Lviv Oblast", "Ukraine", "Europe"},
+            {"Kraków", "Lesser Poland", "Poland", "Europe"},
+            {"Paris", "Île-de-France", "France", "Europe"},
+            {"Barcelona", "Catalonia", "Spain", "Europe"},
+            {"New York", "New York state", "USA", "North America"},
+            {"Denver", "Colorado", "USA", "North America"},
+            {"Kyoto", "Kyoto Prefecture", "Japan", "Asia"},
+            {"Cusco", "Cusco Region", "Peru", "South America"},
+            {"Cape Town", "Western Cape", "South Africa", "Africa"}};
+    private static final long USER_ROLE_ID = 3L;
+    private static final int CARD_STEP = 104_729;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final CardRatingReconciler cardRatingReconciler;
+    private final Random random;
+    @Value("${seed.users:10000}")
+    private int usersCount;
+    @Value("${seed.cards:100000}")
+    private int cardsCount;
+    @Value("${seed.collection-cards:1000000}")
+    private int collectionCardsCount;
+    @Value("${seed.comments:500000}")
+    private int commentsCount;
+    @Value("${seed.batch-size:5000}")
+    private int batchSize;
+
+    public CatalogSeeder(JdbcTemplate jdbcTemplate,
+                         PasswordEncoder passwordEncoder,
+                         CardRatingReconciler cardRatingReconciler,
+                         @Value("${seed.random-seed:42}") long randomSeed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.cardRatingReconciler = cardRatingReconciler;
+        this.random = new Random(randomSeed);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long existingCards = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cards", Long.class);
+        if (existingCards != null && existingCards > 0) {
+            log.info("Skipping seeding, database already contains {} cards", existingCards);
+            return;
+        }
+        long userOffset = getMaxId("users");
+        long collectionOffset = getMaxId("collections");
+        seedUsers(userOffset);
+        seedCards();
+        seedCollections(userOffset, collectionOffset);
+        seedComments(userOffset);
+        jdbcTemplate.update("UPDATE cards c SET likes = (SELECT COUNT(*) FROM collection_card cc "
+                + "JOIN collections col ON col.id = cc.collection_id "
+                + "WHERE cc.card_id = c.id AND col.name = 'Liked cards')");
+        cardRatingReconciler.reconcile();
+        log.info("Seeded {} users, {} cards, {} collection cards and {} comments",
+                usersCount, cardsCount, collectionCardsCount, commentsCount);
+    }
+
+    private void seedUsers(long userOffset) {
+        String password = passwordEncoder.encode(SEED_PASSWORD);
+        insertInBatches("INSERT INTO users (id, pseudonym, email, password, first_name, "
+                        + "banned, deleted) VALUES (?, ?, ?, ?, ?, false, false)",
+                usersCount,
+                i -> new Object[]{userOffset + i + 1, "SeedUser" + (i + 1),
+                        "seed" + (i + 1) + "@example.com", password, "Seed"});
+        insertInBatches("INSERT INTO user_role (user_id, role_id) VALUES (?, ?)",
+                usersCount,
+                i -> new Object[]{userOffset + i + 1, USER_ROLE_ID});
+    }
+
+    private void seedCards() {
+        String[] tripTypes = TRIP_TYPES_LIST.split(DIVIDER);
+        String[] climates = CLIMATE_LIST.split(DIVIDER);
+        insertInBatches("INSERT INTO cards (id, full_name, author, trip_types, climate, "
+                        + "special_requirements, description, why_this_place, image_links, "
+                        + "map_link, latitude, longitude, likes, shown, deleted) "
+                        + "VALUES (?, ?, 'AI', ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, true, false)",
+                cardsCount,
+                i -> {
+                    String[] place = PLACES[i % PLACES.length];
+                    double latitude = random.nextDouble(-60, 70);
+                    double longitude = random.nextDouble(-180, 180);
+                    return new Object[]{i + 1,
+                            "Seed place " + (i + 1) + "|" + String.join("|", place),
+                            pickSeveral(tripTypes, 3),
+                            climates[random.nextInt(climates.length)],
+                            pickSeveral(SPECIAL_REQUIREMENTS, 2),
+                            "Synthetic location number " + (i + 1) + " near " + place[0] + ".",
+                            "Reason one|Reason two|Reason three",
+                            "https://picsum.photos/seed/" + (i + 1) + "/1280/720",
+                            "https://maps.google.com/maps?q=" + latitude + "," + longitude,
+                            latitude,
+                            longitude};
+                });
+    }
+
+    private void seedCollections(long userOffset, long collectionOffset) {
+        int collectionsCount = usersCount * COLLECTION_NAMES.length;
+        insertInBatches("INSERT INTO collections (id, user_id, name, is_public, deleted) "
+                        + "VALUES (?, ?, ?, false, false)",
+                collectionsCount,
+                i -> new Object[]{collectionOffset + i + 1,
+                        userOffset + i / COLLECTION_NAMES.length + 1,
+                        COLLECTION_NAMES[i % COLLECTION_NAMES.length]});
+        int cardsPerCollection = Math.max(1, collectionCardsCount / collectionsCount);
+        insertInBatches("INSERT INTO collection_card (collection_id, card_id) VALUES (?, ?)",
+                collectionCardsCount,
+                i -> {
+                    int collection = i / cardsPerCollection % collectionsCount;
+                    long card = ((long) collection * 31 + (long) i * CARD_STEP)
+                            % cardsCount;
+                    return new Object[]{collectionOffset + collection + 1, card + 1};
+                });
+    }
+
+    private void seedComments(long userOffset) {
+        Timestamp timeStamp = Timestamp.valueOf(LocalDateTime.now());
+        insertInBatches("INSERT INTO comments (user_id, card_id, time_stamp, text, stars, "
+                        + "shown, deleted) VALUES (?, ?, ?, ?, ?, true, false)",
+                commentsCount,
+                i -> new Object[]{userOffset + random.nextInt(usersCount) + 1,
+                        random.nextInt(cardsCount) + 1,
+                        timeStamp,
+                        "Synthetic comment number " + (i + 1),
+                        random.nextInt(1, 6)});
+    }
+
+    private void insertInBatches(String sql, int rowsCount, IntFunction<Object[]> rowFactory) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < rowsCount; i++) {
+            batch.add(rowFactory.apply(i));
+            if (batch.size() == batchSize || i == rowsCount - 1) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private String pickSeveral(String[] values, int maxAmount) {
+        int amount = random.nextInt(1, maxAmount + 1);
+        int start = random.nextInt(values.length);
+        List<String> picked = new ArrayList<>(amount);
+        for (int i = 0; i < amount && i < values.length; i++) {
+            picked.add(values[(start + i) % values.length]);
+        }
+        return String.join("|", picked);
+    }
+
+    private long getMaxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -1,9 +1,12 @@
 package wander.wise.application.service.user;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
-import wander.wise.application.dto.comment.CommentDto;
+import wander.wise.application.dto.comment.UserCommentDto;
 import wander.wise.application.dto.social.link.SocialLinkDto;
 import wander.wise.application.dto.user.UserDto;
 import wander.wise.application.dto.user.login.LoginResponseDto;
@@ -13,6 +16,7 @@ import wander.wise.application.dto.user.update.UpdateUserEmailRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserInfoRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserPasswordRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserRolesRequestDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.model.User;
 
 public interface UserService {
@@ -41,11 +45,13 @@ public interface UserService {
 
     UserDto findById(Long id);
 
+    Optional<VersionDto> findVersionById(Long id);
+
     Set<SocialLinkDto> getUserSocialLinks(Long id);
 
     Set<CollectionWithoutCardsDto> getUserCollections(Long id, String email);
 
-    Set<CommentDto> getUserComments(Long id, String email);
+    List<UserCommentDto> getUserComments(Long id, String email, Pageable pageable);
 
     void restorePassword(RestorePasswordRequestDto requestDto);
 
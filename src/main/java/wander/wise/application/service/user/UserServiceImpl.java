@@ -1,18 +1,22 @@
 package wander.wise.application.service.user;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import wander.wise.application.dto.collection.CollectionWithoutCardsDto;
-import wander.wise.application.dto.comment.CommentDto;
+import wander.wise.application.dto.comment.UserCommentDto;
 import wander.wise.application.dto.social.link.SocialLinkDto;
 import wander.wise.application.dto.user.UserDto;
 import wander.wise.application.dto.user.login.LoginRequestDto;
@@ -23,10 +27,9 @@ import wander.wise.application.dto.user.update.UpdateUserEmailRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserInfoRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserPasswordRequestDto;
 import wander.wise.application.dto.user.update.UpdateUserRolesRequestDto;
+import wander.wise.application.dto.version.VersionDto;
 import wander.wise.application.exception.custom.AuthorizationException;
 import wander.wise.application.exception.custom.RegistrationException;
-import wander.wise.application.mapper.CollectionMapper;
-import wander.wise.application.mapper.CommentMapper;
 import wander.wise.application.mapper.SocialLinkMapper;
 import wander.wise.application.mapper.UserMapper;
 import wander.wise.application.model.Collection;
@@ -34,14 +37,13 @@ import wander.wise.application.model.Role;
 import wander.wise.application.model.User;
 import wander.wise.application.repository.collection.CollectionRepository;
 import wander.wise.application.repository.comment.CommentRepository;
-import wander.wise.application.repository.user.pseudonym.PseudonymRepository;
 import wander.wise.application.repository.user.UserRepository;
 import wander.wise.application.security.AuthenticationService;
 import wander.wise.application.security.JwtUtil;
 import wander.wise.application.service.api.email.EmailService;
 import wander.wise.application.service.api.storage.StorageService;
-
-import static wander.wise.application.constants.GlobalConstants.DIVIDER;
+import wander.wise.application.service.collection.CollectionSummaryLoader;
+import wander.wise.application.service.user.pseudonym.PseudonymGenerator;
 
 @Service
 @RequiredArgsConstructor
@@ -60,11 +62,10 @@ public class UserServiceImpl implements UserService {
     private final AuthenticationService authenticationService;
     private final SocialLinkMapper socialLinkMapper;
     private final CollectionRepository collectionRepository;
-    private final CollectionMapper collectionMapper;
+    private final CollectionSummaryLoader collectionSummaryLoader;
     private final StorageService storageService;
     private final CommentRepository commentRepository;
-    private final CommentMapper commentMapper;
-    private final PseudonymRepository pseudonymRepository;
+    private final PseudonymGenerator pseudonymGenerator;
 
     @Override
     @Transactional
@@ -91,6 +92,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDto findById(Long id) {
         return userMapper.toDto(userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -98,6 +100,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    public Optional<VersionDto> findVersionById(Long id) {
+        return userRepository.findVersionById(id)
+                .map(userVersion -> VersionDto.of("user", userVersion));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Set<SocialLinkDto> getUserSocialLinks(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
@@ -109,23 +118,19 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<CollectionWithoutCardsDto> getUserCollections(Long id, String email) {
-        User user = findUserAndAuthorize(id, email);
-        Set<Collection> collections = getCollectionsAndInitializeImageLinks(user);
-        return collections.stream()
-                .map(collectionMapper::toCollectionWithoutCardsDto)
-                .collect(Collectors.toSet());
+        findUserAndAuthorize(id, email);
+        return new HashSet<>(collectionSummaryLoader.findAllByUserId(id));
     }
 
     @Override
-    @Transactional
-    public Set<CommentDto> getUserComments(Long id, String email) {
-        User user = findUserAndAuthorize(id, email);
-        Set<CommentDto> userComments = commentRepository.getAllByUserEmail(email)
-                .stream()
-                .map(commentMapper::toDto)
-                .collect(Collectors.toSet());
-        return userComments;
+    @Transactional(readOnly = true)
+    public List<UserCommentDto> getUserComments(Long id, String email, Pageable pageable) {
+        findUserAndAuthorize(id, email);
+        return commentRepository.findAllByUserId(
+                id,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
     @Override
@@ -148,6 +153,7 @@ public class UserServiceImpl implements UserService {
         if (userRepository.existsByPseudonym(requestDto.pseudonym())) {
             throw new RegistrationException("Such user already exists");
         } else {
+            pseudonymGenerator.registerTaken(requestDto.pseudonym());
             return userMapper.toDto(userRepository.save(userMapper
                     .updateUserFromDto(updatedUser, requestDto)));
         }
@@ -183,7 +189,8 @@ public class UserServiceImpl implements UserService {
                 .map(Role::new)
                 .collect(Collectors.toSet());
         updatedUser.setRoles(newRoles);
-        return userMapper.toDto(userRepository.save(updatedUser));
+        User savedUser = userRepository.save(updatedUser);
+        return userMapper.toDto(savedUser);
     }
 
     @Override
@@ -277,7 +284,7 @@ public class UserServiceImpl implements UserService {
             newUser.setRoles(Set.of(new Role(USER_ID)));
         }
         newUser.setPassword(encoder.encode(newUser.getPassword()));
-        newUser.setPseudonym(generatePseudonym());
+        newUser.setPseudonym(pseudonymGenerator.generate());
         return newUser;
     }
 
@@ -301,35 +308,6 @@ public class UserServiceImpl implements UserService {
         return emailConfirmCode;
     }
 
-    private String generatePseudonym() {
-        StringBuilder pseudonym = new StringBuilder();
-        pseudonym
-                .append(pseudonymRepository.getAdjective())
-                .append(pseudonymRepository.getColor())
-                .append(pseudonymRepository.getAnimal())
-                .append(random.nextInt(1, 10000));
-        if (userRepository.existsByPseudonym(pseudonym.toString())) {
-            return generatePseudonym();
-        }
-        return pseudonym.toString();
-    }
-
-    private static Set<Collection> getCollectionsAndInitializeImageLinks(User user) {
-        Set<Collection> collections = user.getCollections();
-        collections.forEach(collection -> {
-            if (collection.getImageLink() == null && !collection.getCards().isEmpty()) {
-                String[] imageLinks = collection.getCards()
-                        .stream()
-                        .toList()
-                        .get(0)
-                        .getImageLinks()
-                        .split(DIVIDER);
-                collection.setImageLink(imageLinks[0]);
-            }
-        });
-        return collections;
-    }
-
     private static Collection createCollection(String name, User user) {
         Collection newCollection = new Collection();
         newCollection.setName(name);
@@ -0,0 +1,54 @@
+package wander.wise.application.service.user.pseudonym;
+
+import java.util.BitSet;
+
+/**
+ * Answers "definitely not added" or "maybe added" without keeping
+ * the values themselves
+ */
+final class BloomFilter {
+    private final BitSet bits;
+    private final int size;
+    private final int hashesCount;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        double optimalSize = -expectedInsertions * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2));
+        this.size = (int) Math.min(Integer.MAX_VALUE, Math.max(64, Math.ceil(optimalSize)));
+        this.hashesCount = Math.max(1,
+                (int) Math.round((double) size / expectedInsertions * Math.log(2)));
+        this.bits = new BitSet(size);
+    }
+
+    void put(String value) {
+        int firstHash = value.hashCode();
+        int secondHash = mix(firstHash);
+        for (int i = 0; i < hashesCount; i++) {
+            bits.set(getIndex(firstHash, secondHash, i));
+        }
+    }
+
+    boolean mightContain(String value) {
+        int firstHash = value.hashCode();
+        int secondHash = mix(firstHash);
+        for (int i = 0; i < hashesCount; i++) {
+            if (!bits.get(getIndex(firstHash, secondHash, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getIndex(int firstHash, int secondHash, int i) {
+        return Math.floorMod(firstHash + i * secondHash, size);
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash | 1;
+    }
+}
@@ -0,0 +1,130 @@
+package wander.wise.application.service.user.pseudonym;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Random;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import wander.wise.application.exception.custom.RegistrationException;
+import wander.wise.application.repository.user.pseudonym.PseudonymRepository;
+
+/**
+ * Generates pseudonyms like "BraveRedFox1234". Every combination of words and
+ * number is an index, that is walked with a fixed step coprime with the number
+ * of combinations, so each index comes once before the walk repeats. Starting
+ * point and step are random on every start, pseudonyms taken before are caught
+ * by the bloom filter and checked in the database only when it answers "maybe".
+ * Word lists and the filter are loaded, when the application is ready, so the
+ * first registration does not wait for them
+ */
+@Component
+public class PseudonymGenerator {
+    private static final int MAX_NUMBER = 9999;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PSEUDONYMS_PAGE_SIZE = 10_000;
+    private final Random random = new SecureRandom();
+    private final PseudonymRepository pseudonymRepository;
+    private final int expectedCount;
+    private List<String> adjectives;
+    private List<String> colors;
+    private List<String> animals;
+    private BloomFilter takenPseudonyms;
+    private long combinationsCount;
+    private long step;
+    private long currentIndex;
+
+    public PseudonymGenerator(
+            PseudonymRepository pseudonymRepository,
+            @Value("${users.pseudonyms.expected-count:1000000}") int expectedCount) {
+        this.pseudonymRepository = pseudonymRepository;
+        this.expectedCount = expectedCount;
+    }
+
+    /**
+     * Requests served before the application is ready load the lists themselves
+     */
+    public synchronized String generate() {
+        if (takenPseudonyms == null) {
+            initialize();
+        }
+        for (long attempt = 0; attempt < combinationsCount; attempt++) {
+            currentIndex = (currentIndex + step) % combinationsCount;
+            String pseudonym = toPseudonym(currentIndex);
+            if (!takenPseudonyms.mightContain(pseudonym)
+                    || pseudonymRepository.countByPseudonymIncludingDeleted(pseudonym) == 0) {
+                takenPseudonyms.put(pseudonym);
+                return pseudonym;
+            }
+        }
+        throw new RegistrationException("Can't generate unique pseudonym");
+    }
+
+    /**
+     * For pseudonyms, that users choose themselves
+     */
+    public synchronized void registerTaken(String pseudonym) {
+        if (takenPseudonyms != null) {
+            takenPseudonyms.put(pseudonym);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        if (takenPseudonyms != null) {
+            return;
+        }
+        adjectives = pseudonymRepository.findAllAdjectives();
+        colors = pseudonymRepository.findAllColors();
+        animals = pseudonymRepository.findAllAnimals();
+        combinationsCount = (long) adjectives.size() * colors.size() * animals.size() * MAX_NUMBER;
+        step = random.nextLong(combinationsCount / 2, combinationsCount);
+        while (gcd(step, combinationsCount) != 1) {
+            step++;
+        }
+        currentIndex = random.nextLong(combinationsCount);
+        long existingCount = pseudonymRepository.countUsersIncludingDeleted();
+        BloomFilter bloomFilter = new BloomFilter(
+                (int) Math.min(Integer.MAX_VALUE, Math.max(expectedCount, existingCount * 2)),
+                FALSE_POSITIVE_RATE);
+        putExistingPseudonyms(bloomFilter);
+        takenPseudonyms = bloomFilter;
+    }
+
+    /**
+     * Reads taken pseudonyms page by page, so only one page is held
+     * in memory next to the filter
+     */
+    private void putExistingPseudonyms(BloomFilter bloomFilter) {
+        String lastPseudonym = "";
+        List<String> page;
+        do {
+            page = pseudonymRepository.findPseudonymsIncludingDeletedAfter(
+                    lastPseudonym, PSEUDONYMS_PAGE_SIZE);
+            page.forEach(bloomFilter::put);
+            if (!page.isEmpty()) {
+                lastPseudonym = page.get(page.size() - 1);
+            }
+        } while (page.size() == PSEUDONYMS_PAGE_SIZE);
+    }
+
+    private String toPseudonym(long index) {
+        long number = index % MAX_NUMBER + 1;
+        index /= MAX_NUMBER;
+        int animal = (int) (index % animals.size());
+        index /= animals.size();
+        int color = (int) (index % colors.size());
+        int adjective = (int) (index / colors.size());
+        return adjectives.get(adjective) + colors.get(color) + animals.get(animal) + number;
+    }
+
+    private static long gcd(long first, long second) {
+        while (second != 0) {
+            long remainder = first % second;
+            first = second;
+            second = remainder;
+        }
+        return first;
+    }
+}
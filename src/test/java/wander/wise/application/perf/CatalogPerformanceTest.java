@@ -0,0 +1,383 @@
+package wander.wise.application.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import wander.wise.application.dto.user.login.LoginRequestDto;
+import wander.wise.application.dto.user.login.LoginResponseDto;
+
+/**
+ * Runs endpoints against a catalog seeded by CatalogSeeder in MySQL from
+ * concurrent clients and fails when p50 or p99 latency or SQL statements of a
+ * single request exceed the budget of the endpoint, or when a statement reads
+ * a table without an index. Statements are counted on the DataSource by the
+ * perf profile, so JdbcTemplate and searchExecutor work of a request is
+ * included, and read from http.server.sql.statements. Every endpoint is warmed
+ * up first, measured requests then use other ids where the endpoint has them,
+ * so caches are as cold as for a first visitor
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "seed.users=200",
+        "seed.cards=5000",
+        "seed.collection-cards=30000",
+        "seed.comments=20000",
+        "seed.batch-size=1000",
+        "fakes.openai.latency-mean-ms=0",
+        "fakes.openai.latency-deviation-ms=0",
+        "fakes.openai.error-rate=0.0",
+        "fakes.google-maps.latency-mean-ms=0",
+        "fakes.google-maps.latency-deviation-ms=0",
+        "fakes.bing.latency-mean-ms=0",
+        "fakes.bing.latency-deviation-ms=0",
+        "fakes.s3.latency-mean-ms=0",
+        "fakes.s3.latency-deviation-ms=0",
+        "fakes.smtp.latency-mean-ms=0",
+        "fakes.smtp.latency-deviation-ms=0",
+        "cards.pregeneration.enabled=false",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=performance-test-secret-performance-test-secret"})
+@ActiveProfiles({"fakes", "seed", "perf"})
+class CatalogPerformanceTest {
+    private static final int CLIENTS = 8;
+    private static final int WARMUP_REQUESTS = 50;
+    private static final int MEASURED_REQUESTS = 200;
+    private static final long METRIC_WAIT_MILLIS = 5000;
+    private static final String SEED_EMAIL = "seed1@example.com";
+    private static final String SEED_EMAIL_FORMAT = "seed%d@example.com";
+    private static final String SEED_PASSWORD = "password";
+    private static final String STATEMENTS_METRIC = "http.server.sql.statements";
+    private static final String SELECT_CARDS_OUTSIDE_COLLECTION = "SELECT c.id FROM cards c "
+            + "WHERE NOT EXISTS (SELECT 1 FROM collection_card cc "
+            + "JOIN collections col ON col.id = cc.collection_id "
+            + "JOIN users u ON u.id = col.user_id "
+            + "WHERE cc.card_id = c.id AND u.email = ? AND col.name = ?) "
+            + "ORDER BY c.id LIMIT ?";
+    private static final String SELECT_FULL_SCANS = "SELECT DIGEST_TEXT "
+            + "FROM performance_schema.events_statements_summary_by_digest "
+            + "WHERE SCHEMA_NAME = ? AND SUM_NO_INDEX_USED > 0";
+    /**
+     * Dictionaries read whole on purpose
+     */
+    private static final Set<String> FULLY_READ_TABLES = Set.of("`roles`",
+            "`username_adjectives`", "`username_colors`", "`username_animals`",
+            "`trending_scores`");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUsername("root")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private HttpHeaders authorizedHeaders;
+    private Long seedUserId;
+
+    @DynamicPropertySource
+    static void registerDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Test
+    void findCardDetails_WithinBudget() throws Exception {
+        assertWithinBudget(
+                new Budget("GET", "/cards/details/{id}", 8, 50, 300),
+                i -> restTemplate.getForEntity("/cards/details/{id}", String.class, i + 1));
+    }
+
+    @Test
+    void getUserProfile_WithinBudget() throws Exception {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users ORDER BY id", Long.class);
+        assertWithinBudget(
+                new Budget("GET", "/users/{id}/profile", 5, 50, 300),
+                i -> restTemplate.getForEntity("/users/{id}/profile", String.class,
+                        userIds.get(i % userIds.size())));
+    }
+
+    /**
+     * Locations and trip types are substring matches, the first search of a
+     * page reads cards without an index before it is cached
+     */
+    @Test
+    void searchCachedCards_WithinBudget() throws Exception {
+        assertWithinBudget(
+                new Budget("POST", "/cards/search", 3, 50, 300, Set.of("`cards`")),
+                i -> restTemplate.postForEntity("/cards/search?page={page}&size=10",
+                        new HttpEntity<>(Map.of(
+                                "startLocation", "Kyiv,Ukraine",
+                                "tripTypes", List.of("Nature"),
+                                "travelDistance", List.of("Country")),
+                                jsonHeaders()),
+                        String.class,
+                        i % 3));
+    }
+
+    @Test
+    void getUserCollections_WithinBudget() throws Exception {
+        assertWithinBudget(
+                new Budget("GET", "/users/{id}/collections", 8, 50, 300),
+                i -> getAuthorized("/users/{id}/collections", getSeedUserId()));
+    }
+
+    @Test
+    void findCollectionCards_WithinBudget() throws Exception {
+        List<Long> collectionIds = jdbcTemplate.queryForList(
+                "SELECT id FROM collections WHERE user_id = ? ORDER BY id",
+                Long.class,
+                getSeedUserId());
+        assertWithinBudget(
+                new Budget("GET", "/collections/{id}/cards", 20, 100, 500),
+                i -> getAuthorized("/collections/{id}/cards?page={page}&size=10",
+                        collectionIds.get(i % collectionIds.size()),
+                        i / collectionIds.size() % 3));
+    }
+
+    @Test
+    void getUserComments_WithinBudget() throws Exception {
+        assertWithinBudget(
+                new Budget("GET", "/users/{id}/comments", 6, 50, 300),
+                i -> getAuthorized("/users/{id}/comments?page={page}&size=20",
+                        getSeedUserId(),
+                        i % 3));
+    }
+
+    /**
+     * A card can be liked once, so every client is a seed user of its own,
+     * which likes cards it has not liked yet
+     */
+    @Test
+    void postLike_WithinBudget() throws Exception {
+        List<Client> clients = getClients("Liked cards");
+        assertWithinBudget(
+                new Budget("PUT", "/cards/post-like/{id}", 12, 100, 500),
+                i -> clients.get(i % CLIENTS).put("/cards/post-like/{id}", i / CLIENTS));
+    }
+
+    @Test
+    void addCardToSaved_WithinBudget() throws Exception {
+        List<Client> clients = getClients("Saved cards");
+        assertWithinBudget(
+                new Budget("PUT", "/cards/add-to-saved/{id}", 10, 100, 500),
+                i -> clients.get(i % CLIENTS).put("/cards/add-to-saved/{id}", i / CLIENTS));
+    }
+
+    private void assertWithinBudget(Budget budget, IntFunction<ResponseEntity<?>> request)
+            throws Exception {
+        jdbcTemplate.execute(
+                "TRUNCATE TABLE performance_schema.events_statements_summary_by_digest");
+        long recordedBefore = getStatements(budget).count();
+        runConcurrently(budget, request, 0, WARMUP_REQUESTS);
+        List<Long> latencies = runConcurrently(budget, request,
+                WARMUP_REQUESTS, WARMUP_REQUESTS + MEASURED_REQUESTS);
+        Statements statements = awaitStatements(budget,
+                recordedBefore + WARMUP_REQUESTS + MEASURED_REQUESTS);
+        Collections.sort(latencies);
+        assertThat(statements.max())
+                .as("SQL statements per %s %s", budget.method(), budget.uri())
+                .isLessThanOrEqualTo(budget.maxStatements());
+        assertThat(percentile(latencies, 0.5))
+                .as("p50 latency of %s %s, ms", budget.method(), budget.uri())
+                .isLessThanOrEqualTo(budget.p50Millis());
+        assertThat(percentile(latencies, 0.99))
+                .as("p99 latency of %s %s, ms", budget.method(), budget.uri())
+                .isLessThanOrEqualTo(budget.p99Millis());
+        assertThat(getFullScans(budget))
+                .as("statements of %s %s without an index", budget.method(), budget.uri())
+                .isEmpty();
+    }
+
+    /**
+     * Sends requests with indexes from inclusive to exclusive from CLIENTS
+     * threads and returns their latencies in milliseconds
+     */
+    private List<Long> runConcurrently(Budget budget,
+                                       IntFunction<ResponseEntity<?>> request,
+                                       int from,
+                                       int to) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                int index = i;
+                futures.add(clients.submit(() -> {
+                    long start = System.nanoTime();
+                    ResponseEntity<?> response = request.apply(index);
+                    long latency = (System.nanoTime() - start) / 1_000_000;
+                    assertThat(response.getStatusCode().is2xxSuccessful())
+                            .as("%s %s returned %s", budget.method(), budget.uri(),
+                                    response.getStatusCode())
+                            .isTrue();
+                    return latency;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>(futures.size());
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    /**
+     * The filter records statements after the response is written,
+     * so the client may get the response a moment earlier
+     */
+    private Statements awaitStatements(Budget budget, long expectedCount) {
+        long deadline = System.currentTimeMillis() + METRIC_WAIT_MILLIS;
+        Statements statements = getStatements(budget);
+        while (statements.count() < expectedCount && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+            statements = getStatements(budget);
+        }
+        assertThat(statements.count())
+                .as("recorded %s %s requests", budget.method(), budget.uri())
+                .isEqualTo(expectedCount);
+        return statements;
+    }
+
+    private Statements getStatements(Budget budget) {
+        DistributionSummary summary = meterRegistry.find(STATEMENTS_METRIC)
+                .tag("method", budget.method())
+                .tag("uri", budget.uri())
+                .summary();
+        return summary == null
+                ? new Statements(0, 0)
+                : new Statements(summary.count(), summary.max());
+    }
+
+    private List<String> getFullScans(Budget budget) {
+        return jdbcTemplate.queryForList(SELECT_FULL_SCANS, String.class,
+                        MYSQL.getDatabaseName())
+                .stream()
+                .filter(digest -> FULLY_READ_TABLES.stream().noneMatch(digest::contains))
+                .filter(digest -> budget.scannedTables().stream().noneMatch(digest::contains))
+                .toList();
+    }
+
+    private List<Client> getClients(String collectionName) {
+        int cardsPerClient = (WARMUP_REQUESTS + MEASURED_REQUESTS) / CLIENTS + 1;
+        List<Client> clients = new ArrayList<>(CLIENTS);
+        for (int i = 1; i <= CLIENTS; i++) {
+            String email = SEED_EMAIL_FORMAT.formatted(i);
+            clients.add(new Client(login(email), jdbcTemplate.queryForList(
+                    SELECT_CARDS_OUTSIDE_COLLECTION, Long.class,
+                    email, collectionName, cardsPerClient)));
+        }
+        return clients;
+    }
+
+    private ResponseEntity<String> getAuthorized(String url, Object... uriVariables) {
+        return restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(getAuthorizedHeaders()), String.class, uriVariables);
+    }
+
+    private HttpHeaders getAuthorizedHeaders() {
+        if (authorizedHeaders == null) {
+            authorizedHeaders = login(SEED_EMAIL);
+        }
+        return authorizedHeaders;
+    }
+
+    private HttpHeaders login(String email) {
+        LoginResponseDto loginResponse = restTemplate.postForObject("/auth/login",
+                new HttpEntity<>(new LoginRequestDto(email, SEED_PASSWORD), jsonHeaders()),
+                LoginResponseDto.class);
+        HttpHeaders headers = jsonHeaders();
+        headers.setBearerAuth(loginResponse.token());
+        return headers;
+    }
+
+    private Long getSeedUserId() {
+        if (seedUserId == null) {
+            seedUserId = jdbcTemplate.queryForObject(
+                    "SELECT id FROM users WHERE email = ?", Long.class, SEED_EMAIL);
+        }
+        return seedUserId;
+    }
+
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+
+    private static long percentile(List<Long> sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.size()) - 1;
+        return sortedLatencies.get(Math.max(0, index));
+    }
+
+    /**
+     * @param maxStatements SQL statements allowed in any single request
+     * @param scannedTables tables the endpoint may read without an index
+     */
+    private record Budget(String method,
+                          String uri,
+                          int maxStatements,
+                          long p50Millis,
+                          long p99Millis,
+                          Set<String> scannedTables) {
+        Budget(String method, String uri, int maxStatements, long p50Millis, long p99Millis) {
+            this(method, uri, maxStatements, p50Millis, p99Millis, Set.of());
+        }
+    }
+
+    /**
+     * @param max the most statements of a single request recorded so far
+     */
+    private record Statements(long count, double max) {
+    }
+
+    /**
+     * A seed user with the cards, that are not in its collection yet
+     */
+    private class Client {
+        private final HttpHeaders headers;
+        private final List<Long> cardIds;
+
+        Client(HttpHeaders headers, List<Long> cardIds) {
+            this.headers = headers;
+            this.cardIds = cardIds;
+        }
+
+        ResponseEntity<String> put(String url, int cardIndex) {
+            return restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(headers),
+                    String.class, cardIds.get(cardIndex));
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package wander.wise.application.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.model.Card;
+import wander.wise.application.model.Report;
+import wander.wise.application.repository.card.CardRepository;
+import wander.wise.application.repository.card.CardSpecificationBuilder;
+import wander.wise.application.repository.card.batch.CardBatchRepository;
+import wander.wise.application.repository.card.rating.CardRatingRepository;
+import wander.wise.application.repository.collection.CollectionRepository;
+import wander.wise.application.repository.comment.CommentRepository;
+import wander.wise.application.repository.event.SearchEventRepository;
+import wander.wise.application.repository.invalid.jwt.InvalidJwtRepository;
+import wander.wise.application.repository.report.ReportRepository;
+import wander.wise.application.repository.social.link.SocialLinkRepository;
+import wander.wise.application.repository.trending.TrendingScoreRepository;
+import wander.wise.application.repository.user.UserRepository;
+import wander.wise.application.repository.user.pseudonym.PseudonymRepository;
+
+/**
+ * Calls every repository query and every combination of CardSpecificationBuilder
+ * filters against a catalog seeded by CatalogSeeder, reads the SQL they sent from
+ * the MySQL general log and runs EXPLAIN on it. A statement fails the test when
+ * it scans a whole table, that has no index usable for it. Scans the optimizer
+ * picks over a usable index depend on the data and are left to it. The same
+ * statements are explained in a copy of the database migrated without
+ * 17-add-query-indexes.yaml, to show that the changeset is what they rely on
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "seed.users=200",
+        "seed.cards=5000",
+        "seed.collection-cards=20000",
+        "seed.comments=10000",
+        "seed.batch-size=1000",
+        "cards.pregeneration.enabled=false",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=query-plan-test-secret-query-plan-test-secret"})
+@ActiveProfiles({"fakes", "seed"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+    private static final String SCHEMA_WITHOUT_QUERY_INDEXES = "without_query_indexes";
+    private static final String MASTER_CHANGELOG = "db/changelog/db.changelog-master.yaml";
+    private static final String QUERY_INDEXES_CHANGELOG = "17-add-query-indexes.yaml";
+    private static final String REPOSITORY_SUFFIX = "Repository";
+    private static final String SEED_EMAIL = "seed1@example.com";
+    private static final String SEED_PSEUDONYM = "SeedUser1";
+    private static final String SELECT_LOGGED_STATEMENTS = "SELECT CONVERT(argument USING "
+            + "utf8mb4) FROM mysql.general_log WHERE thread_id = ? "
+            + "AND command_type = 'Query' ORDER BY event_time";
+    private static final Pattern EXPLAINED_STATEMENT = Pattern.compile(
+            "\\s*(select|update|delete)\\s", Pattern.CASE_INSENSITIVE);
+    /**
+     * Only insert rows, so there is no plan to check
+     */
+    private static final Set<String> INSERTS = Set.of(
+            "CardBatchRepository.upsertAllByFullName",
+            "SearchEventRepository.saveAll");
+    /**
+     * Read or delete whole tables on purpose: word lists are kept in memory
+     * and the trending snapshot is replaced and read as a whole
+     */
+    private static final Set<String> FULL_READS = Set.of(
+            "PseudonymRepository.findAllAdjectives",
+            "PseudonymRepository.findAllColors",
+            "PseudonymRepository.findAllAnimals",
+            "TrendingScoreRepository.replaceAll",
+            "TrendingScoreRepository.findAllOfShownCards");
+    private static final List<String> SEARCH_FILTERS = List.of("tripTypes", "climate",
+            "specialRequirements", "travelDistance", "author");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUsername("root")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private final Map<String, List<String>> statements = new LinkedHashMap<>();
+    @Autowired
+    private ApplicationContext applicationContext;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private CardRepository cardRepository;
+    @Autowired
+    private CardSpecificationBuilder cardSpecificationBuilder;
+    @Autowired
+    private CardBatchRepository cardBatchRepository;
+    @Autowired
+    private CardRatingRepository cardRatingRepository;
+    @Autowired
+    private CollectionRepository collectionRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private SearchEventRepository searchEventRepository;
+    @Autowired
+    private InvalidJwtRepository invalidJwtRepository;
+    @Autowired
+    private ReportRepository reportRepository;
+    @Autowired
+    private SocialLinkRepository socialLinkRepository;
+    @Autowired
+    private TrendingScoreRepository trendingScoreRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PseudonymRepository pseudonymRepository;
+
+    @DynamicPropertySource
+    static void registerDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeAll
+    void captureStatements() throws Exception {
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        captureRepositoryStatements();
+        captureSearchStatements();
+        migrateWithoutQueryIndexes();
+        analyzeTables(MYSQL.getDatabaseName());
+        analyzeTables(SCHEMA_WITHOUT_QUERY_INDEXES);
+    }
+
+    @Test
+    void repositoryQueries_AllExplained() {
+        assertThat(statements.keySet()).containsAll(findRepositoryQueries());
+    }
+
+    @Test
+    void repositoryQueries_UseIndexes() {
+        assertThat(findFullScans(MYSQL.getDatabaseName())).isEmpty();
+    }
+
+    @Test
+    void repositoryQueries_WithoutQueryIndexes_ScanTables() {
+        assertThat(findFullScans(SCHEMA_WITHOUT_QUERY_INDEXES)).containsKeys(
+                "InvalidJwtRepository.existsByJwt",
+                "InvalidJwtRepository.deleteAllExpiredSince",
+                "CardSpecificationBuilder[]",
+                "CardSpecificationBuilder[tripTypes]",
+                "CardSpecificationBuilder[climate]");
+    }
+
+    private void captureRepositoryStatements() {
+        Long cardId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM cards", Long.class);
+        Long userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = ?", Long.class, SEED_EMAIL);
+        Long collectionId = jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM collections WHERE user_id = ?", Long.class, userId);
+        Long commentId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM comments", Long.class);
+        String fullName = jdbcTemplate.queryForObject(
+                "SELECT full_name FROM cards WHERE id = ?", String.class, cardId);
+        List<Long> cardIds = List.of(cardId, cardId + 1, cardId + 2);
+
+        capture("CardRepository.findById", () -> cardRepository.findById(cardId));
+        capture("CardRepository.existsByFullName",
+                () -> cardRepository.existsByFullName(fullName));
+        capture("CardRepository.findExistingFullNames",
+                () -> cardRepository.findExistingFullNames(List.of(fullName)));
+        capture("CardRepository.findAllByCollectionId",
+                () -> cardRepository.findAllByCollectionId(collectionId, PageRequest.of(0, 10)));
+        capture("CardRepository.findShownLocationsByIds",
+                () -> cardRepository.findShownLocationsByIds(cardIds));
+        capture("CardRepository.findShownNamesByIds",
+                () -> cardRepository.findShownNamesByIds(cardIds));
+        capture("CardRepository.findShownVersionById",
+                () -> cardRepository.findShownVersionById(cardId));
+        capture("CardRepository.addToRatings",
+                () -> cardRepository.addToRatings(cardId, 0, 0, 0, LocalDateTime.now()));
+        capture("CardRepository.addToLikes",
+                () -> cardRepository.addToLikes(cardId, 1, LocalDateTime.now()));
+        capture("CardRepository.incrementVersion",
+                () -> cardRepository.incrementVersion(cardId, LocalDateTime.now()));
+        capture("CardBatchRepository.saveAllIgnoringDuplicates", () -> {
+            Card card = new Card();
+            card.setFullName(fullName);
+            cardBatchRepository.saveAllIgnoringDuplicates(List.of(card));
+        });
+        capture("CardBatchRepository.forEachCard", () -> cardBatchRepository.forEachCard(
+                card -> {
+                }));
+        capture("CardRatingRepository.findMaxCardId", cardRatingRepository::findMaxCardId);
+        capture("CardRatingRepository.reconcile",
+                () -> cardRatingRepository.reconcile(cardId, cardId + 1000));
+        capture("CollectionRepository.findById",
+                () -> collectionRepository.findById(collectionId));
+        capture("CollectionRepository.findAllByUserEmail",
+                () -> collectionRepository.findAllByUserEmail(SEED_EMAIL));
+        capture("CollectionRepository.findVersionById",
+                () -> collectionRepository.findVersionById(collectionId));
+        capture("CollectionRepository.findSummariesByUserId",
+                () -> collectionRepository.findSummariesByUserId(userId));
+        capture("CollectionRepository.findSummaryById",
+                () -> collectionRepository.findSummaryById(collectionId));
+        capture("CollectionRepository.findCoversByIds",
+                () -> collectionRepository.findCoversByIds(List.of(collectionId)));
+        capture("CollectionRepository.incrementVersion",
+                () -> collectionRepository.incrementVersion(collectionId, LocalDateTime.now()));
+        capture("CommentRepository.findById", () -> commentRepository.findById(commentId));
+        capture("CommentRepository.findAllByUserId",
+                () -> commentRepository.findAllByUserId(userId, PageRequest.of(0, 20)));
+        capture("SearchEventRepository.findStatsSince",
+                () -> searchEventRepository.findStatsSince(
+                        LocalDateTime.now().minusDays(1), 20));
+        capture("InvalidJwtRepository.existsByJwt",
+                () -> invalidJwtRepository.existsByJwt("jwt"));
+        capture("InvalidJwtRepository.deleteAllExpiredSince",
+                () -> invalidJwtRepository.deleteAllExpiredSince(
+                        LocalDateTime.now().minusDays(1)));
+        capture("ReportRepository.countUnresolvedReporters",
+                () -> reportRepository.countUnresolvedReporters(
+                        Report.TargetType.CARD, cardId));
+        capture("ReportRepository.findUnresolvedSummaries",
+                () -> reportRepository.findUnresolvedSummaries(
+                        Report.TargetType.CARD, PageRequest.of(0, 20)));
+        capture("ReportRepository.resolveAll",
+                () -> reportRepository.resolveAll(Report.TargetType.CARD, cardId));
+        capture("SocialLinkRepository.findById", () -> socialLinkRepository.findById(1L));
+        capture("TrendingScoreRepository.replaceAll",
+                () -> trendingScoreRepository.replaceAll(List.of()));
+        capture("TrendingScoreRepository.findAllOfShownCards",
+                trendingScoreRepository::findAllOfShownCards);
+        capture("UserRepository.findById", () -> userRepository.findById(userId));
+        capture("UserRepository.existsByEmail", () -> userRepository.existsByEmail(SEED_EMAIL));
+        capture("UserRepository.existsByPseudonym",
+                () -> userRepository.existsByPseudonym(SEED_PSEUDONYM));
+        capture("UserRepository.findByEmail", () -> userRepository.findByEmail(SEED_EMAIL));
+        capture("UserRepository.findVersionById", () -> userRepository.findVersionById(userId));
+        capture("PseudonymRepository.findAllAdjectives", pseudonymRepository::findAllAdjectives);
+        capture("PseudonymRepository.findAllColors", pseudonymRepository::findAllColors);
+        capture("PseudonymRepository.findAllAnimals", pseudonymRepository::findAllAnimals);
+        capture("PseudonymRepository.findPseudonymsIncludingDeletedAfter",
+                () -> pseudonymRepository.findPseudonymsIncludingDeletedAfter(
+                        SEED_PSEUDONYM, 100));
+        capture("PseudonymRepository.countUsersIncludingDeleted",
+                pseudonymRepository::countUsersIncludingDeleted);
+        capture("PseudonymRepository.countByPseudonymIncludingDeleted",
+                () -> pseudonymRepository.countByPseudonymIncludingDeleted(SEED_PSEUDONYM));
+    }
+
+    /**
+     * Every subset of the filters, one value each, pages after the first
+     * also run the count query
+     */
+    private void captureSearchStatements() {
+        for (int filters = 0; filters < 1 << SEARCH_FILTERS.size(); filters++) {
+            int included = filters;
+            CardSearchParameters searchParameters = new CardSearchParameters(
+                    "Kyiv,Ukraine",
+                    getFilterValue(included, 0, "Active"),
+                    getFilterValue(included, 1, "Tropical"),
+                    getFilterValue(included, 2, "With pets"),
+                    getFilterValue(included, 3, "Ukraine"),
+                    getFilterValue(included, 4, "AI"));
+            String name = IntStream.range(0, SEARCH_FILTERS.size())
+                    .filter(i -> (included & 1 << i) != 0)
+                    .mapToObj(SEARCH_FILTERS::get)
+                    .collect(Collectors.joining(", ", "CardSpecificationBuilder[", "]"));
+            capture(name, () -> cardRepository.findAll(
+                    cardSpecificationBuilder.build(searchParameters), PageRequest.of(1, 10)));
+        }
+    }
+
+    /**
+     * Logs only the statements of this call: the general log is on just for it
+     * and is read by the id of the connection, that the call used
+     */
+    private void capture(String name, Runnable repositoryCall) {
+        jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+        jdbcTemplate.execute("SET GLOBAL general_log = 1");
+        Long connectionId;
+        try {
+            connectionId = new TransactionTemplate(transactionManager).execute(status -> {
+                status.setRollbackOnly();
+                repositoryCall.run();
+                return jdbcTemplate.queryForObject("SELECT CONNECTION_ID()", Long.class);
+            });
+        } finally {
+            jdbcTemplate.execute("SET GLOBAL general_log = 0");
+        }
+        statements.put(name, jdbcTemplate.queryForList(
+                        SELECT_LOGGED_STATEMENTS, String.class, connectionId).stream()
+                .filter(sql -> EXPLAINED_STATEMENT.matcher(sql).lookingAt())
+                .filter(sql -> !sql.contains("@@") && !sql.contains("CONNECTION_ID()"))
+                .distinct()
+                .toList());
+    }
+
+    /**
+     * Applies the changelog one changeset at a time and marks the query
+     * indexes as applied instead of creating them, then copies the data,
+     * so the schemas differ only by the changeset
+     */
+    private void migrateWithoutQueryIndexes() throws Exception {
+        jdbcTemplate.execute("CREATE DATABASE " + SCHEMA_WITHOUT_QUERY_INDEXES);
+        try (Connection connection = DriverManager.getConnection(
+                getJdbcUrl(SCHEMA_WITHOUT_QUERY_INDEXES), MYSQL.getUsername(),
+                MYSQL.getPassword());
+                Liquibase liquibase = new Liquibase(MASTER_CHANGELOG,
+                        new ClassLoaderResourceAccessor(),
+                        DatabaseFactory.getInstance().findCorrectDatabaseImplementation(
+                                new JdbcConnection(connection)))) {
+            List<ChangeSet> changeSets = liquibase.listUnrunChangeSets(
+                    new Contexts(), new LabelExpression());
+            for (ChangeSet changeSet : changeSets) {
+                if (changeSet.getFilePath().endsWith(QUERY_INDEXES_CHANGELOG)) {
+                    liquibase.markNextChangeSetRan(new Contexts(), new LabelExpression());
+                } else {
+                    liquibase.update(1, new Contexts(), new LabelExpression());
+                }
+            }
+        }
+        withSchema(SCHEMA_WITHOUT_QUERY_INDEXES, template -> {
+            template.execute("SET FOREIGN_KEY_CHECKS = 0");
+            for (String table : getTables(MYSQL.getDatabaseName())) {
+                template.execute("INSERT INTO %s SELECT * FROM %s.%s"
+                        .formatted(table, MYSQL.getDatabaseName(), table));
+            }
+            return null;
+        });
+    }
+
+    private void analyzeTables(String schema) {
+        withSchema(schema, template -> {
+            getTables(schema).forEach(table -> template.queryForList("ANALYZE TABLE " + table));
+            return null;
+        });
+    }
+
+    private List<String> getTables(String schema) {
+        return jdbcTemplate.queryForList("SELECT table_name FROM information_schema.tables "
+                        + "WHERE table_schema = ? AND table_type = 'BASE TABLE' "
+                        + "AND table_name NOT LIKE 'DATABASECHANGELOG%'",
+                String.class,
+                schema);
+    }
+
+    /**
+     * @return scanned tables with their statements by repository query
+     */
+    private Map<String, List<String>> findFullScans(String schema) {
+        return withSchema(schema, template -> {
+            Map<String, List<String>> fullScans = new TreeMap<>();
+            statements.forEach((name, sqls) -> {
+                if (FULL_READS.contains(name)) {
+                    return;
+                }
+                for (String sql : sqls) {
+                    template.queryForList("EXPLAIN " + sql).stream()
+                            .filter(QueryPlanRegressionTest::isFullScanWithoutIndex)
+                            .forEach(row -> fullScans.computeIfAbsent(name,
+                                    key -> new ArrayList<>()).add(row.get("table") + ": " + sql));
+                }
+            });
+            return fullScans;
+        });
+    }
+
+    private <T> T withSchema(String schema, Function<JdbcTemplate, T> callback) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                getJdbcUrl(schema), MYSQL.getUsername(), MYSQL.getPassword(), true);
+        try {
+            return callback.apply(new JdbcTemplate(dataSource));
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * Repository interfaces of the context with their own query methods,
+     * so a new query fails the test until it is explained here
+     */
+    private Set<String> findRepositoryQueries() {
+        return Arrays.stream(applicationContext.getBeanDefinitionNames())
+                .map(applicationContext::getType)
+                .filter(Objects::nonNull)
+                .flatMap(type -> ClassUtils.getAllInterfacesForClassAsSet(type).stream())
+                .filter(type -> type.getPackageName().startsWith(
+                        QueryPlanRegressionTest.class.getPackageName()))
+                .filter(type -> type.getSimpleName().endsWith(REPOSITORY_SUFFIX))
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isDefault() && !method.isSynthetic())
+                .map(QueryPlanRegressionTest::getQueryName)
+                .filter(name -> !INSERTS.contains(name))
+                .collect(Collectors.toSet());
+    }
+
+    private static String getQueryName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * Derived tables and optimized away rows have no table to scan
+     */
+    private static boolean isFullScanWithoutIndex(Map<String, Object> row) {
+        Object table = row.get("table");
+        return "ALL".equals(row.get("type"))
+                && row.get("possible_keys") == null
+                && table != null
+                && !table.toString().startsWith("<");
+    }
+
+    private static String[] getFilterValue(int included, int filter, String value) {
+        return (included & 1 << filter) != 0 ? new String[]{value} : null;
+    }
+
+    private static String getJdbcUrl(String schema) {
+        return MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + schema);
+    }
+}
@@ -0,0 +1,144 @@
+package wander.wise.application.service.card;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import wander.wise.application.dto.card.CardDto;
+import wander.wise.application.dto.card.CardSearchParameters;
+import wander.wise.application.dto.card.SearchCardsPage;
+
+/**
+ * Runs the application on a primary with one replica, that never receives
+ * writes, so it lags behind forever. Card details and searches are read from
+ * the replica, only cards, that a search has just generated, are read back
+ * from the primary
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "fakes.openai.latency-mean-ms=0",
+        "fakes.openai.latency-deviation-ms=0",
+        "fakes.openai.error-rate=0.0",
+        "fakes.bing.latency-mean-ms=0",
+        "fakes.bing.latency-deviation-ms=0",
+        "fakes.s3.latency-mean-ms=0",
+        "fakes.s3.latency-deviation-ms=0",
+        "fakes.google-maps.latency-mean-ms=0",
+        "fakes.google-maps.latency-deviation-ms=0",
+        "cards.pregeneration.enabled=false",
+        "jwt.secret=replica-lag-test-secret-replica-lag-test-secret"})
+@ActiveProfiles("fakes")
+class CardCachesReplicaLagTest {
+    private static final String MASTER_CHANGELOG = "db/changelog/db.changelog-master.yaml";
+    private static final String INSERT_CARD = "INSERT INTO cards (id, full_name, author, "
+            + "trip_types, climate, special_requirements, description, why_this_place, "
+            + "image_links, map_link, latitude, longitude, likes, shown, deleted) "
+            + "VALUES (?, ?, 'User', 'Active', 'Temperate', '', ?, '', '', '', "
+            + "50.45, 30.52, 0, true, false)";
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>("mysql:8.0");
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private CardService cardService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void registerDataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.username", PRIMARY::getUsername);
+        registry.add("spring.datasource.password", PRIMARY::getPassword);
+        registry.add("datasource.replicas.urls", REPLICA::getJdbcUrl);
+    }
+
+    /**
+     * Liquibase of the application migrates only the primary
+     */
+    @BeforeAll
+    static void migrateReplica() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword());
+                Liquibase liquibase = new Liquibase(MASTER_CHANGELOG,
+                        new ClassLoaderResourceAccessor(),
+                        DatabaseFactory.getInstance().findCorrectDatabaseImplementation(
+                                new JdbcConnection(connection)))) {
+            liquibase.update(new Contexts(), new LabelExpression());
+        }
+    }
+
+    @Test
+    void findById_ReplicaHasOlderCard_ReadsReplica() {
+        insertCard(jdbcTemplate, 1L, "Fresh place|Kyiv Oblast|Ukraine|Europe", "Updated");
+        insertCard(getReplicaJdbcTemplate(), 1L,
+                "Fresh place|Kyiv Oblast|Ukraine|Europe", "Outdated");
+
+        CardDto loaded = cardService.findById(1L);
+
+        assertThat(loaded.getDescription()).isEqualTo("Outdated");
+    }
+
+    @Test
+    void search_ReplicaHasNoCard_ReadsReplica() {
+        insertCard(jdbcTemplate, 2L, "New place|Lviv Oblast|Ukraine|Europe", "New");
+
+        SearchCardsPage page = search("Lviv,Ukraine", "User");
+
+        assertThat(toJson(page)).noneMatch(json -> json.contains("New place"));
+    }
+
+    @Test
+    void search_CardsGenerated_FindsThemOnPrimary() {
+        SearchCardsPage page = search("Odesa,Ukraine", "AI");
+
+        assertThat(toJson(page)).isNotEmpty()
+                .allMatch(json -> json.contains("Fake place"));
+    }
+
+    private SearchCardsPage search(String startLocation, String author) {
+        return cardService.search(
+                PageRequest.of(0, 10),
+                new CardSearchParameters(startLocation, null, null, null,
+                        new String[]{"Country"}, new String[]{author}),
+                "replica-lag-test");
+    }
+
+    private static List<String> toJson(SearchCardsPage page) {
+        return page.cards().stream()
+                .map(fragment -> new String(fragment.json(), StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private JdbcTemplate getReplicaJdbcTemplate() {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()));
+    }
+
+    private static void insertCard(JdbcTemplate template, Long id, String fullName,
+                                   String description) {
+        template.update(INSERT_CARD, id, fullName, description);
+    }
+}